@@ -0,0 +1,68 @@
+package org.perfume.config;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.perfume.monitoring.MethodMetricsInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String SERVICE_PACKAGE = "org.perfume.service";
+
+    @Bean
+    public static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return timingAdvisor("org.perfume.service.impl",
+                new MethodMetricsInterceptor(meterRegistry, "app.service.invocations", "service"));
+    }
+
+    @Bean
+    public static Advisor repositoryMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return timingAdvisor("org.perfume.domain.repo",
+                new MethodMetricsInterceptor(meterRegistry, "spring.data.repository.invocations", "repository"));
+    }
+
+    private static Advisor timingAdvisor(String packageName, MethodMetricsInterceptor interceptor) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+                    return false;
+                }
+                return isServiceEntryPoint(method, targetClass) || isTimed(method, targetClass);
+            }
+        };
+        pointcut.setClassFilter(type -> type.getPackageName().equals(packageName));
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static boolean isServiceEntryPoint(Method method, Class<?> targetClass) {
+        for (Class<?> api : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (api.getPackageName().equals(SERVICE_PACKAGE)
+                    && ClassUtils.hasMethod(api, method.getName(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTimed(Method method, Class<?> targetClass) {
+        return AnnotatedElementUtils.hasAnnotation(AopUtils.getMostSpecificMethod(method, targetClass), Timed.class)
+                || AnnotatedElementUtils.hasAnnotation(targetClass, Timed.class);
+    }
+}
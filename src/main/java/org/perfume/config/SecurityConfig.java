@@ -41,10 +41,12 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger-resources/**", "/webjars/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
 
                         .requestMatchers(HttpMethod.GET, "/api/perfumes/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/brands/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/catalog/**").permitAll()
 
                         .requestMatchers(HttpMethod.POST, "/api/perfumes/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/perfumes/**").hasRole("ADMIN")
@@ -68,6 +70,8 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.GET, "/api/ratings/perfume/*/").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/ratings/perfume/*").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/ratings/perfume/*/distribution").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/ratings/perfume/*/feed").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/ratings/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/ratings/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/ratings/**").hasAnyRole("USER", "ADMIN")
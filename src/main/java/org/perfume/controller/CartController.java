@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.perfume.model.dto.request.CartBatchRequest;
 import org.perfume.model.dto.request.CartItemRequest;
 import org.perfume.model.dto.response.*;
 import org.perfume.service.CartService;
@@ -55,6 +56,17 @@ public class CartController {
         return ResponseEntity.ok(cart);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Apply several add/update/remove operations to the cart at once")
+    public ResponseEntity<CartBatchResponse> applyBatch(
+            @Valid @RequestBody CartBatchRequest request,
+            Authentication authentication
+            ) {
+        UserResponse user = userService.getUserByEmail(authentication.getName());
+        CartBatchResponse response = cartService.applyBatch(user.getId(), request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/clear")
     @Operation(summary = "Clear cart")
     public ResponseEntity<MessageResponse> clearCart(Authentication authentication) {
@@ -71,6 +83,14 @@ public class CartController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/badge")
+    @Operation(summary = "Get cart item count and total price")
+    public ResponseEntity<CartBadgeResponse> getCartBadge(Authentication authentication) {
+        UserResponse user = userService.getUserByEmail(authentication.getName());
+        CartBadgeResponse badge = cartService.getCartBadge(user.getId());
+        return ResponseEntity.ok(badge);
+    }
+
     @DeleteMapping("/remove/{perfumeId}")
     @Operation(summary = "Remove item from cart")
     public ResponseEntity<CartResponse> removeFromCart(
@@ -0,0 +1,44 @@
+package org.perfume.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.perfume.model.dto.response.CatalogSyncResponse;
+import org.perfume.service.CatalogSyncService;
+import org.perfume.service.impl.CatalogChangeFeed;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+@Tag(name = "Catalog Sync", description = "Catalog delta sync and change feed endpoints")
+public class CatalogController {
+
+    private final CatalogSyncService catalogSyncService;
+    private final CatalogChangeFeed catalogChangeFeed;
+
+    @GetMapping("/sync")
+    @Operation(summary = "Get perfumes, brands and categories changed since a version or timestamp")
+    public ResponseEntity<CatalogSyncResponse> sync(
+            @RequestParam(required = false) String version,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "500") int limit) {
+        CatalogSyncResponse changes = catalogSyncService.getChanges(version, since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to catalog changes as server-sent events")
+    public SseEmitter changes() {
+        return catalogChangeFeed.subscribe();
+    }
+}
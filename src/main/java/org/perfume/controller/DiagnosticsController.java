@@ -0,0 +1,89 @@
+package org.perfume.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.perfume.model.dto.response.EndpointQueryStatsResponse;
+import org.perfume.model.dto.response.HotKeysResponse;
+import org.perfume.model.dto.response.RecordingStatusResponse;
+import org.perfume.monitoring.QueryBudgetMonitor;
+import org.perfume.service.impl.FlightRecorderService;
+import org.perfume.service.impl.HotKeyTracker;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Diagnostics", description = "Admin diagnostics endpoints")
+public class DiagnosticsController {
+
+    private final QueryBudgetMonitor queryBudgetMonitor;
+    private final FlightRecorderService flightRecorderService;
+    private final HotKeyTracker hotKeyTracker;
+
+    @GetMapping("/queries")
+    @Operation(summary = "Get per-endpoint SQL statement counts, optionally only endpoints over budget (Admin only)")
+    public ResponseEntity<List<EndpointQueryStatsResponse>> getQueryStats(
+            @RequestParam(defaultValue = "true") boolean offendersOnly) {
+        return ResponseEntity.ok(offendersOnly ? queryBudgetMonitor.getOffenders() : queryBudgetMonitor.getAll());
+    }
+
+    @DeleteMapping("/queries")
+    @Operation(summary = "Reset per-endpoint SQL statement counts (Admin only)")
+    public ResponseEntity<Void> resetQueryStats() {
+        queryBudgetMonitor.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/hot-keys")
+    @Operation(summary = "Get the most requested perfume ids and search terms over a recent window (Admin only)")
+    public ResponseEntity<HotKeysResponse> getHotKeys(
+            @RequestParam(defaultValue = "15") int windowMinutes,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(hotKeyTracker.getHotKeys(windowMinutes, limit));
+    }
+
+    @PostMapping("/recording/start")
+    @Operation(summary = "Start a bounded flight recording with checkout, auth and cart events (Admin only)")
+    public ResponseEntity<RecordingStatusResponse> startRecording(
+            @RequestParam(defaultValue = "5") long durationMinutes,
+            @RequestParam(defaultValue = "64") long maxSizeMb) {
+        return ResponseEntity.ok(flightRecorderService.start(durationMinutes, maxSizeMb));
+    }
+
+    @PostMapping("/recording/stop")
+    @Operation(summary = "Stop the running flight recording (Admin only)")
+    public ResponseEntity<RecordingStatusResponse> stopRecording() {
+        return ResponseEntity.ok(flightRecorderService.stop());
+    }
+
+    @GetMapping("/recording")
+    @Operation(summary = "Get the state of the current flight recording (Admin only)")
+    public ResponseEntity<RecordingStatusResponse> getRecording() {
+        return ResponseEntity.ok(flightRecorderService.getStatus());
+    }
+
+    @GetMapping(value = "/recording/dump", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Download the current flight recording as a .jfr file (Admin only)")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() {
+        flightRecorderService.requireRecording();
+        StreamingResponseBody body = flightRecorderService::dump;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"perfume-shop.jfr\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+}
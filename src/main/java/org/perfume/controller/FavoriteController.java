@@ -3,6 +3,7 @@ package org.perfume.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.FavoriteResponse;
 import org.perfume.model.dto.response.MessageResponse;
 import org.perfume.model.dto.response.MostAddedProductResponse;
@@ -27,9 +28,12 @@ public class FavoriteController {
 
     @GetMapping("/my-favorites")
     @Operation(summary = "Get user's favorites")
-    public ResponseEntity<List<FavoriteResponse>> getUserFavorites(Authentication authentication) {
+    public ResponseEntity<CursorPageResponse<FavoriteResponse>> getUserFavorites(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         UserResponse user = userService.getUserByEmail(authentication.getName());
-        List<FavoriteResponse> favorites = favoriteService.getUserFavorites(user.getId());
+        CursorPageResponse<FavoriteResponse> favorites = favoriteService.getUserFavorites(user.getId(), cursor, size);
         return ResponseEntity.ok(favorites);
     }
 
@@ -57,11 +61,13 @@ public class FavoriteController {
 
     @GetMapping("/my-favorites/brand/{brandId}")
     @Operation(summary = "Get user's favorites by brand")
-    public ResponseEntity<List<FavoriteResponse>> getUserFavoritesByBrand(
+    public ResponseEntity<CursorPageResponse<FavoriteResponse>> getUserFavoritesByBrand(
             Authentication authentication,
-            @PathVariable Long brandId) {
+            @PathVariable Long brandId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         UserResponse user = userService.getUserByEmail(authentication.getName());
-        List<FavoriteResponse> favorites = favoriteService.getUserFavoritesByBrand(user.getId(), brandId);
+        CursorPageResponse<FavoriteResponse> favorites = favoriteService.getUserFavoritesByBrand(user.getId(), brandId, cursor, size);
         return ResponseEntity.ok(favorites);
     }
 
@@ -129,8 +135,10 @@ public class FavoriteController {
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get all favorites (Admin only)")
-    public ResponseEntity<List<FavoriteResponse>> getAllFavorites() {
-        List<FavoriteResponse> favorites = favoriteService.getAllFavorites();
+    public ResponseEntity<CursorPageResponse<FavoriteResponse>> getAllFavorites(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<FavoriteResponse> favorites = favoriteService.getAllFavorites(cursor, size);
         return ResponseEntity.ok(favorites);
     }
 }
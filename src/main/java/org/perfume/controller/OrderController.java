@@ -5,11 +5,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.perfume.model.dto.request.OrderRequest;
+import org.perfume.model.dto.request.OrderSearchRequest;
 import org.perfume.model.dto.response.CheckoutResponse;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.OrderItemResponse;
 import org.perfume.model.dto.response.OrderResponse;
+import org.perfume.model.dto.response.OrderSummaryResponse;
+import org.perfume.model.dto.response.TopCustomerResponse;
 import org.perfume.model.dto.response.UserResponse;
 import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.PhoneMatchMode;
+import org.perfume.model.enums.TopCustomerMetric;
 import org.perfume.service.OrderService;
 import org.perfume.service.impl.UserService;
 import org.springframework.data.domain.Page;
@@ -20,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -89,10 +96,13 @@ public class OrderController {
 
     @GetMapping("/by-whatsapp/{whatsappNumber}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get orders by WhatsApp number (Admin only)")
-    public ResponseEntity<List<OrderResponse>> getOrdersByWhatsappNumber(@PathVariable String whatsappNumber) {
-        List<OrderResponse> orders = orderService.getOrdersByWhatsappNumber(whatsappNumber);
-        return ResponseEntity.ok(orders);
+    @Operation(summary = "Get orders by WhatsApp number with exact, suffix or partial matching (Admin only)")
+    public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> getOrdersByWhatsappNumber(
+            @PathVariable String whatsappNumber,
+            @RequestParam(defaultValue = "PARTIAL") PhoneMatchMode mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(orderService.getOrdersByWhatsappNumber(whatsappNumber, mode, cursor, size));
     }
 
     @GetMapping("/admin/by-min-amount")
@@ -103,6 +113,14 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/admin/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search orders by status, amount, date range and phone (Admin only)")
+    public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> searchOrders(@Valid OrderSearchRequest request) {
+        CursorPageResponse<OrderSummaryResponse> orders = orderService.searchOrders(request);
+        return ResponseEntity.ok(orders);
+    }
+
     @GetMapping("/admin/latest")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get latest orders with pagination (Admin only)")
@@ -124,9 +142,11 @@ public class OrderController {
 
     @GetMapping("/admin/top-customers")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get top customers (Admin only)")
-    public ResponseEntity<List<Object[]>> getTopCustomers(@RequestParam(defaultValue = "10") int limit) {
-        List<Object[]> topCustomers = orderService.getTopCustomers(limit);
+    @Operation(summary = "Get top customers by order count or total spent (Admin only)")
+    public ResponseEntity<List<TopCustomerResponse>> getTopCustomers(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "ORDERS") TopCustomerMetric by) {
+        List<TopCustomerResponse> topCustomers = orderService.getTopCustomers(limit, by);
         return ResponseEntity.ok(topCustomers);
     }
 
@@ -138,6 +158,13 @@ public class OrderController {
         return ResponseEntity.ok(totalSpent);
     }
 
+    @GetMapping("/admin/count-by-status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get order counts for every status (Admin only)")
+    public ResponseEntity<Map<OrderStatus, Long>> getOrderCountsByStatus() {
+        return ResponseEntity.ok(orderService.getOrderCountsByStatus());
+    }
+
     @GetMapping("/admin/count-by-status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get order count by status (Admin only)")
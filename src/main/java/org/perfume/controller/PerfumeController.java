@@ -12,6 +12,7 @@ import org.perfume.model.enums.FragranceFamily;
 import org.perfume.model.enums.Gender;
 import org.perfume.model.enums.Volume;
 import org.perfume.service.PerfumeService;
+import org.perfume.service.impl.HotKeyTracker;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +28,7 @@ import java.util.List;
 public class PerfumeController {
 
     private final PerfumeService perfumeService;
+    private final HotKeyTracker hotKeyTracker;
 
     @GetMapping
     @Operation(summary = "Get all perfumes")
@@ -39,6 +41,7 @@ public class PerfumeController {
     @Operation(summary = "Get perfume by ID")
     public ResponseEntity<PerfumeResponse> getPerfumeById(@PathVariable Long id) {
         PerfumeResponse perfume = perfumeService.findById(id);
+        hotKeyTracker.recordProductView(id);
         return ResponseEntity.ok(perfume);
     }
 
@@ -46,6 +49,7 @@ public class PerfumeController {
     @Operation(summary = "Search perfumes by name")
     public ResponseEntity<List<PerfumeResponse>> searchPerfumeByName(@RequestParam String name) {
         List<PerfumeResponse> perfumes = perfumeService.searchPerfumesByName(name);
+        hotKeyTracker.recordSearch(name);
         return ResponseEntity.ok(perfumes);
     }
 
@@ -137,6 +141,15 @@ public class PerfumeController {
         return ResponseEntity.ok(perfumes);
     }
 
+    @GetMapping("/trending")
+    @Operation(summary = "Get the most viewed perfumes over a recent window")
+    public ResponseEntity<List<PerfumeResponse>> getTrendingPerfumes(
+            @RequestParam(defaultValue = "60") int windowMinutes,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<PerfumeResponse> perfumes = perfumeService.getTrendingPerfumes(windowMinutes, limit);
+        return ResponseEntity.ok(perfumes);
+    }
+
     @GetMapping("/{id}/similar")
     @Operation(summary = "Get similar perfumes")
     public ResponseEntity<List<PerfumeResponse>> getSimilarPerfumes(@PathVariable Long id) {
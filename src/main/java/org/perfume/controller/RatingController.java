@@ -5,9 +5,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.perfume.model.dto.request.RatingRequest;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.MessageResponse;
+import org.perfume.model.dto.response.RatingDistributionResponse;
+import org.perfume.model.dto.response.RatingFeedItemResponse;
 import org.perfume.model.dto.response.RatingResponse;
 import org.perfume.model.dto.response.UserResponse;
+import org.perfume.model.enums.RatingSort;
 import org.perfume.service.RatingService;
 import org.perfume.service.impl.UserService;
 import org.springframework.http.HttpStatus;
@@ -16,6 +20,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/ratings")
@@ -65,6 +70,24 @@ public class RatingController {
         return ResponseEntity.ok(ratings);
     }
 
+    @GetMapping("/perfume/{perfumeId}/feed")
+    @Operation(summary = "Get paginated ratings feed for a perfume")
+    public ResponseEntity<CursorPageResponse<RatingFeedItemResponse>> getPerfumeRatingFeed(
+            @PathVariable Long perfumeId,
+            @RequestParam(defaultValue = "NEWEST") RatingSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<RatingFeedItemResponse> feed = ratingService.getPerfumeRatingFeed(perfumeId, sort, cursor, size);
+        return ResponseEntity.ok(feed);
+    }
+
+    @GetMapping("/perfume/{perfumeId}/distribution")
+    @Operation(summary = "Get star rating distribution for a perfume")
+    public ResponseEntity<RatingDistributionResponse> getRatingDistribution(@PathVariable Long perfumeId) {
+        RatingDistributionResponse distribution = ratingService.getRatingDistribution(perfumeId);
+        return ResponseEntity.ok(distribution);
+    }
+
     @GetMapping("/perfume/{perfumeId}/my-rating")
     @Operation(summary = "Get user's rating for a specific perfume")
     public ResponseEntity<RatingResponse> getUserRatingForPerfume(
@@ -95,4 +118,14 @@ public class RatingController {
         boolean canRate = ratingService.canUserRate(user.getId(), perfumeId);
         return ResponseEntity.ok(canRate);
     }
+
+    @GetMapping("/can-rate")
+    @Operation(summary = "Get which of the given perfumes the user can rate")
+    public ResponseEntity<Set<Long>> getRateablePerfumes(
+            @RequestParam List<Long> perfumeIds,
+            Authentication authentication) {
+        UserResponse user = userService.getUserByEmail(authentication.getName());
+        Set<Long> rateable = ratingService.getRateablePerfumeIds(user.getId(), perfumeIds);
+        return ResponseEntity.ok(rateable);
+    }
 }
\ No newline at end of file
@@ -6,15 +6,24 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.perfume.model.dto.request.ProfileUpdateRequest;
 import org.perfume.model.dto.request.UpdatePasswordRequest;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.MessageResponse;
+import org.perfume.model.dto.response.PerfumeRelationshipResponse;
 import org.perfume.model.dto.response.UserResponse;
 import org.perfume.model.enums.UserRole;
+import org.perfume.service.impl.UserRelationshipCache;
 import org.perfume.service.impl.UserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -24,6 +33,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserRelationshipCache userRelationshipCache;
 
     @GetMapping("/profile")
     @Operation(summary = "Get user profile")
@@ -52,6 +62,16 @@ public class UserController {
         return ResponseEntity.ok(new MessageResponse("Password updated successfully"));
     }
 
+    @GetMapping("/me/relationships")
+    @Operation(summary = "Get favorite, rated and can-rate status for the given perfumes")
+    public ResponseEntity<List<PerfumeRelationshipResponse>> getRelationships(
+            @RequestParam List<Long> perfumeIds,
+            Authentication authentication) {
+        UserResponse user = userService.getUserByEmail(authentication.getName());
+        List<PerfumeRelationshipResponse> relationships = userRelationshipCache.getRelationships(user.getId(), perfumeIds);
+        return ResponseEntity.ok(relationships);
+    }
+
     @DeleteMapping("/profile")
     @Operation(summary = "Delete user account")
     public ResponseEntity<MessageResponse> deleteAccount(Authentication authentication) {
@@ -62,10 +82,35 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all users (Admin only)")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    @Operation(summary = "Get all users, newest first (Admin only)")
+    public ResponseEntity<CursorPageResponse<UserResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getAllUsers(cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export all users as CSV (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            userService.exportUsers(writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    @GetMapping("/with-active-orders")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get users with active orders (Admin only)")
+    public ResponseEntity<CursorPageResponse<UserResponse>> getUsersWithActiveOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getUsersWithActiveOrders(cursor, size));
     }
 
     @GetMapping("/{id}")
@@ -78,18 +123,22 @@ public class UserController {
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Search users (Admin only)")
-    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String search) {
-        List<UserResponse> users = userService.searchUsers(search);
-        return ResponseEntity.ok(users);
+    @Operation(summary = "Search users by name or email, best matches first (Admin only)")
+    public ResponseEntity<CursorPageResponse<UserResponse>> searchUsers(
+            @RequestParam String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.searchUsers(search, cursor, size));
     }
 
     @GetMapping("/role/{role}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get users by role (Admin only)")
-    public ResponseEntity<List<UserResponse>> getUsersByRole(@PathVariable UserRole role) {
-        List<UserResponse> users = userService.getUsersByRole(role);
-        return ResponseEntity.ok(users);
+    public ResponseEntity<CursorPageResponse<UserResponse>> getUsersByRole(
+            @PathVariable UserRole role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getUsersByRole(role, cursor, size));
     }
 
     @PutMapping("/{id}/role")
@@ -3,6 +3,7 @@ package org.perfume.domain.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,6 +32,14 @@ public class Cart {
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<CartItem> items = new HashSet<>();
 
+    @ColumnDefault("0")
+    @Column(name = "item_count")
+    private Integer itemCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "items_total")
+    private BigDecimal itemsTotal = BigDecimal.ZERO;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
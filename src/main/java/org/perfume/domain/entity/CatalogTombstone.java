@@ -0,0 +1,41 @@
+package org.perfume.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.perfume.model.enums.CatalogEntityType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "catalog_tombstones", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_catalog_tombstones_entity", columnNames = {"entity_type", "entity_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private CatalogEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public CatalogTombstone(CatalogEntityType entityType, Long entityId, LocalDateTime deletedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package org.perfume.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "customer_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_spent", nullable = false)
+    private BigDecimal totalSpent;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "active_order_count", nullable = false)
+    private Long activeOrderCount;
+
+    @Column(name = "last_order_at")
+    private LocalDateTime lastOrderAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "favorites")
+@Table(name = "favorites", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_favorites_user_perfume", columnNames = {"user_id", "perfume_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,48 @@
+package org.perfume.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.perfume.model.enums.FavoriteAlertType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "favorite_alerts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_favorite_alerts_perfume_type", columnNames = {"perfume_id", "type"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "perfume_id", nullable = false)
+    private Long perfumeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private FavoriteAlertType type;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package org.perfume.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.perfume.model.enums.FavoriteAlertType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "favorite_notifications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_favorite_notifications_user_perfume_type", columnNames = {"user_id", "perfume_id", "type"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "perfume_id", nullable = false)
+    private Long perfumeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private FavoriteAlertType type;
+
+    @Column(name = "discount_percent")
+    private Integer discountPercent;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
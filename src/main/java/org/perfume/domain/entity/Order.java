@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import org.perfume.model.enums.OrderStatus;
+import org.perfume.util.PhoneNumbers;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -46,6 +47,12 @@ public class Order {
     @Column(name = "whatsapp_number", nullable = false)
     private String whatsappNumber;
 
+    @Column(name = "whatsapp_digits")
+    private String whatsappDigits;
+
+    @Column(name = "whatsapp_digits_reversed")
+    private String whatsappDigitsReversed;
+
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
@@ -60,10 +67,18 @@ public class Order {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        indexWhatsappNumber();
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        indexWhatsappNumber();
+    }
+
+    private void indexWhatsappNumber() {
+        this.whatsappNumber = PhoneNumbers.normalize(whatsappNumber);
+        this.whatsappDigits = PhoneNumbers.digits(whatsappNumber);
+        this.whatsappDigitsReversed = PhoneNumbers.reversedDigits(whatsappNumber);
     }
 }
\ No newline at end of file
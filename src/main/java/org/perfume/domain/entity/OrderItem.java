@@ -3,6 +3,7 @@ package org.perfume.domain.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.perfume.model.enums.Volume;
 
 import java.math.BigDecimal;
 
@@ -36,6 +37,19 @@ public class OrderItem {
     @Column(name = "unit_price", nullable = false)
     private BigDecimal unitPrice;
 
+    @Column(name = "perfume_name")
+    private String perfumeName;
+
+    @Column(name = "brand_name")
+    private String brandName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "volume")
+    private Volume volume;
+
+    @Column(name = "image_url")
+    private String imageUrl;
+
     public BigDecimal getSubtotal() {
         return unitPrice.multiply(BigDecimal.valueOf(quantity));
     }
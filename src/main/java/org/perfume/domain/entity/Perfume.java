@@ -3,11 +3,13 @@ package org.perfume.domain.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.perfume.model.enums.FragranceFamily;
 import org.perfume.model.enums.Gender;
 import org.perfume.model.enums.Volume;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -21,6 +23,9 @@ import java.util.Set;
 @ToString(exclude = {"brand", "category", "cartItems", "favoritedBy", "ratings"})
 public class Perfume {
 
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    private static final int PRICE_SCALE = 2;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -81,6 +86,30 @@ public class Perfume {
     @Column(name = "rating_count")
     private Long ratingCount = 0L;
 
+    @ColumnDefault("0")
+    @Column(name = "rating_sum")
+    private Long ratingSum = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "one_star_count")
+    private Long oneStarCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "two_star_count")
+    private Long twoStarCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "three_star_count")
+    private Long threeStarCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "four_star_count")
+    private Long fourStarCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "five_star_count")
+    private Long fiveStarCount = 0L;
+
     @OneToMany(mappedBy = "perfume", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
     private Set<CartItem> cartItems = new HashSet<>();
@@ -105,16 +134,12 @@ public class Perfume {
     }
 
     public BigDecimal getDiscountedPrice() {
-        if (discountPercent == null || discountPercent == 0) {
-            return price;
-        }
-
-        BigDecimal discountAmount = price.multiply(BigDecimal.valueOf(discountPercent / 100.0));
-        return price.subtract(discountAmount);
+        return calculateDiscountedPrice(price, discountPercent);
     }
 
-    public void updateRatingStats(Double averageRating, Long ratingCount) {
-        this.averageRating = averageRating != null ? averageRating : 0.0;
-        this.ratingCount = ratingCount != null ? ratingCount : 0L;
+    public static BigDecimal calculateDiscountedPrice(BigDecimal price, Integer discountPercent) {
+        int percent = discountPercent != null ? discountPercent : 0;
+        return price.multiply(BigDecimal.valueOf(100 - percent))
+                .divide(ONE_HUNDRED, PRICE_SCALE, RoundingMode.HALF_UP);
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.perfume.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "rating_eligibility",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "perfume_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingEligibility {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "perfume_id", nullable = false)
+    private Long perfumeId;
+
+    @Column(name = "delivered_orders", nullable = false)
+    private Integer deliveredOrders;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
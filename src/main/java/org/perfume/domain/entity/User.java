@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import org.perfume.model.enums.UserRole;
+import org.perfume.util.PhoneNumbers;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -79,11 +80,13 @@ public class User {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.phoneNumber = PhoneNumbers.normalize(phoneNumber);
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.phoneNumber = PhoneNumbers.normalize(phoneNumber);
     }
 
     public boolean isVerificationCodeValid() {
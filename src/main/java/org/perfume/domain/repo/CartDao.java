@@ -1,11 +1,15 @@
 package org.perfume.domain.repo;
 
 import org.perfume.domain.entity.Cart;
+import org.perfume.domain.view.CartBadgeView;
+import org.perfume.domain.view.CartLineView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +20,35 @@ public interface CartDao extends JpaRepository<Cart, Long> {
 
     @Query("select c from Cart c left join fetch c.items ci left join fetch ci.perfume where c.user.id = :userId")
     List<Cart> findByUserIdWithItems(@Param("userId") Long userId);
+
+    @Query("select new org.perfume.domain.view.CartLineView(c.id, ci.id, ci.quantity, p.id, p.name, p.description, " +
+            "p.price, p.discountPercent, p.imageUrl, p.stockQuantity, p.createdAt, p.updatedAt, p.isFeatured, p.isBestseller, " +
+            "p.fragranceFamily, p.gender, p.volume, p.averageRating, p.ratingCount, b.id, b.name, cat.id, cat.name) " +
+            "from Cart c left join c.items ci left join ci.perfume p left join p.brand b left join p.category cat " +
+            "where c.user.id = :userId order by ci.id")
+    List<CartLineView> findCartLines(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "insert into carts (user_id, item_count, items_total, created_at, updated_at) " +
+            "values (:userId, 0, 0, now(), now()) on conflict (user_id) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    @Query(value = "select id from carts where user_id = :userId for update", nativeQuery = true)
+    Optional<Long> lockIdByUserId(@Param("userId") Long userId);
+
+    @Query("select new org.perfume.domain.view.CartBadgeView(c.itemCount, c.itemsTotal) from Cart c where c.user.id = :userId")
+    Optional<CartBadgeView> findBadgeByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update Cart c set c.itemCount = 0, c.itemsTotal = 0 where c.user.id = :userId")
+    int resetTotals(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "update carts c set item_count = s.item_count, items_total = s.items_total " +
+            "from (select c2.id as cart_id, coalesce(sum(ci.quantity), 0) as item_count, " +
+            "coalesce(sum(round(p.price * (100 - coalesce(p.discount_percent, 0)) / 100.0, 2) * ci.quantity), 0) as items_total " +
+            "from carts c2 left join cart_items ci on ci.cart_id = c2.id left join products p on p.id = ci.perfume_id " +
+            "where c2.id in (:cartIds) group by c2.id) s " +
+            "where c.id = s.cart_id", nativeQuery = true)
+    int recalculateTotals(@Param("cartIds") Collection<Long> cartIds);
 }
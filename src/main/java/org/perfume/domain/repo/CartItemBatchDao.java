@@ -0,0 +1,53 @@
+package org.perfume.domain.repo;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.perfume.domain.view.CartState;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Timed
+@Repository
+@RequiredArgsConstructor
+public class CartItemBatchDao {
+
+    private static final String UPSERT_SQL = "insert into cart_items (cart_id, perfume_id, quantity, created_at, updated_at) " +
+            "values (?, ?, ?, now(), now()) " +
+            "on conflict (cart_id, perfume_id) do update set quantity = excluded.quantity, updated_at = excluded.updated_at";
+
+    private static final String DELETE_SQL = "delete from cart_items where cart_id = ? and perfume_id = ?";
+
+    private static final String TOTALS_SQL = "update carts set item_count = ?, items_total = ?, updated_at = now() where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void apply(Collection<CartState.Changes> changes) {
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> totals = new ArrayList<>();
+
+        for (CartState.Changes change : changes) {
+            change.getUpserts().forEach((perfumeId, quantity) ->
+                    upserts.add(new Object[]{change.getCartId(), perfumeId, quantity}));
+            change.getRemovals().forEach(perfumeId ->
+                    deletes.add(new Object[]{change.getCartId(), perfumeId}));
+            totals.add(new Object[]{change.getItemCount(), change.getTotalPrice(), change.getCartId()});
+        }
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        }
+
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+        }
+
+        if (!totals.isEmpty()) {
+            jdbcTemplate.batchUpdate(TOTALS_SQL, totals);
+        }
+    }
+}
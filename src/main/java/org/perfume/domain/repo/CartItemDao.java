@@ -2,6 +2,7 @@ package org.perfume.domain.repo;
 
 import org.perfume.domain.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,7 +19,7 @@ public interface CartItemDao extends JpaRepository<CartItem, Long> {
 
     List<CartItem> findByCartId(Long cartId);
 
-    @Query("select ci from CartItem ci where ci.cart.user.id = :userId")
+    @Query("select ci from CartItem ci join fetch ci.perfume p join fetch p.brand where ci.cart.user.id = :userId")
     List<CartItem> findByUserId(@Param("userId") Long userId);
 
     @Query("select sum(ci.quantity) from CartItem ci where ci.cart.id = :cartId")
@@ -26,4 +27,15 @@ public interface CartItemDao extends JpaRepository<CartItem, Long> {
 
     @Query("select ci.perfume.id, count(ci) as count from CartItem ci group by ci.perfume.id order by count desc")
     List<Object[]> findMostAddedProducts();
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("delete from CartItem ci where ci.cart.id in (select c.id from Cart c where c.user.id = :userId)")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Query("select distinct ci.cart.id from CartItem ci where ci.perfume.id = :perfumeId")
+    List<Long> findCartIdsByPerfumeId(@Param("perfumeId") Long perfumeId);
+
+    @Modifying
+    @Query("delete from CartItem ci where ci.perfume.id = :perfumeId")
+    int deleteByPerfumeId(@Param("perfumeId") Long perfumeId);
+}
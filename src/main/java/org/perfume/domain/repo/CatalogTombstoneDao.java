@@ -0,0 +1,35 @@
+package org.perfume.domain.repo;
+
+import org.perfume.domain.entity.CatalogTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CatalogTombstoneDao extends JpaRepository<CatalogTombstone, Long> {
+
+    @Query(value = "select c.entity_type, c.entity_id, c.changed_at, c.deleted from (" +
+            "select 'PERFUME' as entity_type, id as entity_id, updated_at as changed_at, false as deleted " +
+            "from products where updated_at >= :since " +
+            "union all select 'BRAND', id, updated_at, false from brands where updated_at >= :since " +
+            "union all select 'CATEGORY', id, updated_at, false from categories where updated_at >= :since " +
+            "union all select entity_type, entity_id, deleted_at, true from catalog_tombstones where deleted_at >= :since" +
+            ") c " +
+            "where (c.changed_at, c.entity_type, c.entity_id) > (:since, :afterType, :afterId) and c.changed_at < :until " +
+            "order by c.changed_at, c.entity_type, c.entity_id " +
+            "limit :limit", nativeQuery = true)
+    List<Object[]> findChanges(@Param("since") LocalDateTime since,
+                               @Param("afterType") String afterType,
+                               @Param("afterId") Long afterId,
+                               @Param("until") LocalDateTime until,
+                               @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from CatalogTombstone t where t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
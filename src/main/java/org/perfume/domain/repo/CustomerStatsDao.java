@@ -0,0 +1,52 @@
+package org.perfume.domain.repo;
+
+import org.perfume.domain.entity.CustomerStats;
+import org.perfume.model.dto.response.TopCustomerResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CustomerStatsDao extends JpaRepository<CustomerStats, Long> {
+    String TOP_CUSTOMER_SELECT = "select new org.perfume.model.dto.response.TopCustomerResponse(" +
+            "s.userId, u.name, u.email, s.orderCount, s.totalSpent, s.activeOrderCount, s.lastOrderAt) " +
+            "from CustomerStats s join User u on u.id = s.userId ";
+
+    @Query("select s.totalSpent from CustomerStats s where s.userId = :userId")
+    Optional<BigDecimal> findTotalSpentByUserId(@Param("userId") Long userId);
+
+    @Query(TOP_CUSTOMER_SELECT + "order by s.orderCount desc, s.userId")
+    List<TopCustomerResponse> findTopByOrderCount(Pageable pageable);
+
+    @Query(TOP_CUSTOMER_SELECT + "order by s.totalSpent desc, s.userId")
+    List<TopCustomerResponse> findTopByTotalSpent(Pageable pageable);
+
+    @Modifying
+    @Query(value = "insert into customer_stats (user_id, total_spent, order_count, active_order_count, last_order_at, updated_at) " +
+            "values (:userId, :amount, 1, 1, :orderedAt, now()) " +
+            "on conflict (user_id) do update set " +
+            "total_spent = customer_stats.total_spent + excluded.total_spent, " +
+            "order_count = customer_stats.order_count + 1, " +
+            "active_order_count = customer_stats.active_order_count + 1, " +
+            "last_order_at = greatest(customer_stats.last_order_at, excluded.last_order_at), " +
+            "updated_at = now()", nativeQuery = true)
+    int recordOrder(@Param("userId") Long userId,
+                    @Param("amount") BigDecimal amount,
+                    @Param("orderedAt") LocalDateTime orderedAt);
+
+    @Modifying
+    @Query(value = "update customer_stats set total_spent = total_spent + :spentDelta, " +
+            "active_order_count = active_order_count + :activeDelta, updated_at = now() " +
+            "where user_id = :userId", nativeQuery = true)
+    int applyStatusChange(@Param("userId") Long userId,
+                          @Param("spentDelta") BigDecimal spentDelta,
+                          @Param("activeDelta") int activeDelta);
+}
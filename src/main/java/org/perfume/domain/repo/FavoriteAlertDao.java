@@ -0,0 +1,32 @@
+package org.perfume.domain.repo;
+
+import org.perfume.domain.entity.FavoriteAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FavoriteAlertDao extends JpaRepository<FavoriteAlert, Long> {
+
+    @Modifying
+    @Query(value = "insert into favorite_alerts (perfume_id, type, due_at, last_user_id, version, created_at, updated_at) " +
+            "values (:perfumeId, :type, :dueAt, 0, 0, now(), now()) " +
+            "on conflict (perfume_id, type) do update set due_at = excluded.due_at, last_user_id = 0, " +
+            "version = favorite_alerts.version + 1, updated_at = now()", nativeQuery = true)
+    void schedule(@Param("perfumeId") Long perfumeId,
+                  @Param("type") String type,
+                  @Param("dueAt") LocalDateTime dueAt);
+
+    @Query("select a.id from FavoriteAlert a where a.dueAt <= :now order by a.dueAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from FavoriteAlert a where a.perfumeId = :perfumeId")
+    void deleteByPerfumeId(@Param("perfumeId") Long perfumeId);
+}
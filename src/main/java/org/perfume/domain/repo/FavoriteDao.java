@@ -1,24 +1,41 @@
 package org.perfume.domain.repo;
 
 import org.perfume.domain.entity.Favorite;
+import org.perfume.domain.view.FavoriteView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FavoriteDao extends JpaRepository<Favorite, Long> {
+    String FAVORITE_VIEW_SELECT = "select new org.perfume.domain.view.FavoriteView(f.id, f.createdAt, u, p, b, c, r, e.id) " +
+            "from Favorite f join f.user u join f.perfume p join p.brand b join p.category c " +
+            "left join Rating r on r.user = u and r.perfume = p " +
+            "left join RatingEligibility e on e.userId = u.id and e.perfumeId = p.id ";
+
     List<Favorite> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     Optional<Favorite> findByUserIdAndPerfumeId(Long userId, Long perfumeId);
 
     boolean existsByUserIdAndPerfumeId(Long userId, Long perfumeId);
 
+    @Query("select f.perfume.id from Favorite f where f.user.id = :userId")
+    List<Long> findPerfumeIdsByUserId(@Param("userId") Long userId);
+
     List<Favorite> findByPerfumeId(Long perfumeId);
 
+    @Query("select f.user.id from Favorite f where f.perfume.id = :perfumeId and f.user.id > :afterUserId order by f.user.id")
+    List<Long> findUserIdsByPerfumeIdAfter(@Param("perfumeId") Long perfumeId,
+                                           @Param("afterUserId") Long afterUserId,
+                                           Pageable pageable);
+
     @Query("select f.perfume.id, count(f) as favoriteCount from Favorite f group by f.perfume.id order by favoriteCount desc ")
     List<Object[]> findMostFavoritedProducts();
 
@@ -28,8 +45,46 @@ public interface FavoriteDao extends JpaRepository<Favorite, Long> {
     @Query("select count (f) from Favorite f where f.perfume.id = :perfumeId")
     Long countByPerfumeId(@Param("perfumeId") Long perfumeId);
 
-    void deleteByUserIdAndPerfumeId(Long userId, Long perfumeId);
+    @Modifying
+    @Query(value = "insert into favorites (user_id, perfume_id, created_at) " +
+            "select :userId, :perfumeId, now() " +
+            "where exists (select 1 from users where id = :userId) and exists (select 1 from products where id = :perfumeId) " +
+            "on conflict (user_id, perfume_id) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("perfumeId") Long perfumeId);
+
+    @Modifying
+    @Query(value = "delete from favorites where user_id = :userId and perfume_id = :perfumeId", nativeQuery = true)
+    int deleteFavorite(@Param("userId") Long userId, @Param("perfumeId") Long perfumeId);
+
+    @Modifying
+    @Query(value = "with inserted as (" +
+            "insert into favorites (user_id, perfume_id, created_at) select :userId, :perfumeId, now() " +
+            "where not exists (select 1 from favorites where user_id = :userId and perfume_id = :perfumeId) " +
+            "on conflict (user_id, perfume_id) do nothing) " +
+            "delete from favorites where user_id = :userId and perfume_id = :perfumeId", nativeQuery = true)
+    int toggleFavorite(@Param("userId") Long userId, @Param("perfumeId") Long perfumeId);
+
+    @Query(FAVORITE_VIEW_SELECT +
+            "where u.id = :userId and (f.createdAt, f.id) < (:createdAt, :id) " +
+            "order by f.createdAt desc, f.id desc")
+    List<FavoriteView> findUserFavoritePage(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    @Query(FAVORITE_VIEW_SELECT +
+            "where u.id = :userId and b.id = :brandId and (f.createdAt, f.id) < (:createdAt, :id) " +
+            "order by f.createdAt desc, f.id desc")
+    List<FavoriteView> findUserFavoritePageByBrand(@Param("userId") Long userId,
+                                                   @Param("brandId") Long brandId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 
-    @Query("select f from Favorite f where f.perfume.brand.id = :brandId and f.user.id = :userId")
-    List<Favorite> findUserFavoritesByBrand(@Param("userId") Long userId, @Param("brandId") Long brandId);
+    @Query(FAVORITE_VIEW_SELECT +
+            "where (f.createdAt, f.id) < (:createdAt, :id) " +
+            "order by f.createdAt desc, f.id desc")
+    List<FavoriteView> findFavoritePage(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
 }
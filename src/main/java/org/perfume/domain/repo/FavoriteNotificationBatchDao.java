@@ -0,0 +1,42 @@
+package org.perfume.domain.repo;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.perfume.model.enums.FavoriteAlertType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Timed
+@Repository
+@RequiredArgsConstructor
+public class FavoriteNotificationBatchDao {
+
+    private static final String ENQUEUE_SQL = "insert into favorite_notifications (user_id, perfume_id, type, discount_percent, attempts, created_at) " +
+            "values (?, ?, ?, ?, 0, now()) " +
+            "on conflict (user_id, perfume_id, type) do update set discount_percent = excluded.discount_percent, " +
+            "attempts = 0, sent_at = null, created_at = excluded.created_at " +
+            "where favorite_notifications.sent_at is null or favorite_notifications.sent_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void enqueue(Collection<Long> userIds, Long perfumeId, FavoriteAlertType type,
+                        Integer discountPercent, LocalDateTime resendAfter) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp threshold = Timestamp.valueOf(resendAfter);
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            rows.add(new Object[]{userId, perfumeId, type.name(), discountPercent, threshold});
+        }
+
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, rows);
+    }
+}
@@ -0,0 +1,36 @@
+package org.perfume.domain.repo;
+
+import org.perfume.domain.entity.FavoriteNotification;
+import org.perfume.domain.view.FavoriteNotificationView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FavoriteNotificationDao extends JpaRepository<FavoriteNotification, Long> {
+
+    @Query("select new org.perfume.domain.view.FavoriteNotificationView(n.id, u.email, u.name, p.name, n.type, n.discountPercent, p.price) " +
+            "from FavoriteNotification n join User u on u.id = n.userId join Perfume p on p.id = n.perfumeId " +
+            "where n.sentAt is null and n.attempts < :maxAttempts " +
+            "order by n.id")
+    List<FavoriteNotificationView> findPending(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Modifying
+    @Query("update FavoriteNotification n set n.sentAt = :sentAt where n.id in :ids")
+    void markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("update FavoriteNotification n set n.attempts = n.attempts + 1 where n.id in :ids")
+    void markFailed(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from FavoriteNotification n where n.perfumeId = :perfumeId")
+    void deleteByPerfumeId(@Param("perfumeId") Long perfumeId);
+}
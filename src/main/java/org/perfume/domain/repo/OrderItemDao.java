@@ -6,12 +6,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderItemDao extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderId(Long orderId);
 
+    List<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
+
     List<OrderItem> findByPerfumeId(Long perfumeId);
 
     @Query("select oi.perfume.id, oi.perfume.name, SUM(oi.quantity) as totalSold from OrderItem oi group by oi.perfume.id, oi.perfume.name order by totalSold desc ")
@@ -0,0 +1,101 @@
+package org.perfume.domain.repo;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.perfume.model.dto.request.OrderSearchRequest;
+import org.perfume.model.dto.response.OrderSummaryResponse;
+import org.perfume.model.enums.PhoneMatchMode;
+import org.perfume.util.PhoneNumbers;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Timed
+@Repository
+@RequiredArgsConstructor
+public class OrderSearchDao {
+
+    private static final String SELECT = "select new org.perfume.model.dto.response.OrderSummaryResponse(" +
+            "o.id, u.id, u.name, u.email, o.totalAmount, o.status, o.whatsappNumber, o.deliveryAddress, o.createdAt, o.updatedAt) " +
+            "from Order o join o.user u " +
+            "where (o.createdAt, o.id) < (:afterCreatedAt, :afterId)";
+
+    private final EntityManager entityManager;
+
+    public List<OrderSummaryResponse> search(OrderSearchRequest filter, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT);
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterCreatedAt", afterCreatedAt);
+        params.put("afterId", afterId);
+
+        if (filter.getStatus() != null) {
+            jpql.append(" and o.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        if (filter.getPhone() != null && !filter.getPhone().isBlank()) {
+            appendPhoneFilter(jpql, params, filter.getPhone(), filter.getPhoneMatch());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" and o.createdAt >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" and o.createdAt < :to");
+            params.put("to", filter.getTo());
+        }
+        if (filter.getMinAmount() != null) {
+            jpql.append(" and o.totalAmount >= :minAmount");
+            params.put("minAmount", filter.getMinAmount());
+        }
+        if (filter.getMaxAmount() != null) {
+            jpql.append(" and o.totalAmount <= :maxAmount");
+            params.put("maxAmount", filter.getMaxAmount());
+        }
+
+        jpql.append(" order by o.createdAt desc, o.id desc");
+
+        TypedQuery<OrderSummaryResponse> query = entityManager.createQuery(jpql.toString(), OrderSummaryResponse.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private void appendPhoneFilter(StringBuilder jpql, Map<String, Object> params, String phone, PhoneMatchMode mode) {
+        switch (mode != null ? mode : PhoneMatchMode.EXACT) {
+            case EXACT -> {
+                jpql.append(" and o.whatsappDigits = :phoneDigits");
+                params.put("phoneDigits", PhoneNumbers.digits(PhoneNumbers.normalize(phone)));
+            }
+            case SUFFIX -> {
+                List<String> conditions = new ArrayList<>();
+                List<String> fragments = PhoneNumbers.fragmentDigits(phone);
+                for (int i = 0; i < fragments.size(); i++) {
+                    String reversed = new StringBuilder(fragments.get(i)).reverse().toString();
+                    String upper = PhoneNumbers.incrementLastDigit(reversed);
+                    String condition = "o.whatsappDigitsReversed >= :phoneSuffixFrom" + i;
+                    params.put("phoneSuffixFrom" + i, reversed);
+                    if (upper != null) {
+                        condition += " and o.whatsappDigitsReversed < :phoneSuffixTo" + i;
+                        params.put("phoneSuffixTo" + i, upper);
+                    }
+                    conditions.add("(" + condition + ")");
+                }
+                jpql.append(" and (").append(String.join(" or ", conditions)).append(")");
+            }
+            case PARTIAL -> {
+                List<String> conditions = new ArrayList<>();
+                List<String> fragments = PhoneNumbers.fragmentDigits(phone);
+                for (int i = 0; i < fragments.size(); i++) {
+                    conditions.add("o.whatsappDigits like :phonePattern" + i);
+                    params.put("phonePattern" + i, "%" + fragments.get(i) + "%");
+                }
+                jpql.append(" and (").append(String.join(" or ", conditions)).append(")");
+            }
+        }
+    }
+}
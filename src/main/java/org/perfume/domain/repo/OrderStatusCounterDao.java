@@ -0,0 +1,32 @@
+package org.perfume.domain.repo;
+
+import org.perfume.domain.entity.OrderStatusCounter;
+import org.perfume.model.enums.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderStatusCounterDao extends JpaRepository<OrderStatusCounter, OrderStatus> {
+
+    @Modifying
+    @Query(value = "insert into order_status_counters (status, order_count, updated_at) " +
+            "values (:status, :delta, now()) " +
+            "on conflict (status) do update set order_count = order_status_counters.order_count + excluded.order_count, " +
+            "updated_at = now()", nativeQuery = true)
+    int increment(@Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "insert into order_status_counters (status, order_count, updated_at) " +
+            "select o.status, count(*), now() from orders o group by o.status " +
+            "on conflict (status) do update set order_count = excluded.order_count, updated_at = now() " +
+            "where order_status_counters.order_count <> excluded.order_count", nativeQuery = true)
+    int reconcileFromOrders();
+
+    @Modifying
+    @Query(value = "update order_status_counters c set order_count = 0, updated_at = now() " +
+            "where c.order_count <> 0 and not exists (select 1 from orders o where o.status = c.status)", nativeQuery = true)
+    int resetMissingStatuses();
+}
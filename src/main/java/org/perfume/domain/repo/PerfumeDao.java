@@ -7,19 +7,28 @@ import org.perfume.model.enums.Volume;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PerfumeDao extends JpaRepository<Perfume, Long> {
 
     boolean existsByName(String name);
 
-    @Query("select distinct p from Perfume p where lower(p.name) like lower(concat('%', :name, '%') ) ")
+    @Query("select p from Perfume p join fetch p.brand join fetch p.category where p.id = :id")
+    Optional<Perfume> findByIdWithBrandAndCategory(@Param("id") Long id);
+
+    @Query("select p from Perfume p join fetch p.brand join fetch p.category where p.id in :ids")
+    List<Perfume> findAllWithBrandAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct p from Perfume p join fetch p.brand join fetch p.category where lower(p.name) like lower(concat('%', :name, '%') ) ")
     List<Perfume> findByNameContainingIgnoreCase(@Param("name") String name);
 
     List<Perfume> findByBrandId(Long id);
@@ -65,7 +74,7 @@ public interface PerfumeDao extends JpaRepository<Perfume, Long> {
             "(:fragranceFamily is null or p.fragranceFamily = :fragranceFamily) and" +
             "(:volume is null or p.volume = :volume) and" +
             "(:featured is null or p.isFeatured = :featured) and" +
-            "(:bestSeller is null or p.isBestseller = :bestSeller)")
+            "(:bestseller is null or p.isBestseller = :bestseller)")
     List<Perfume> findWithFilters(
             @Param("search") String search,
             @Param("brandId") Long brandId,
@@ -79,5 +88,45 @@ public interface PerfumeDao extends JpaRepository<Perfume, Long> {
             @Param("bestseller") Boolean bestseller,
             Pageable pageable
     );
-}
 
+    @Modifying
+    @Query(value = "update products set " +
+            "rating_sum = coalesce(rating_sum, 0) + :newRating - :oldRating, " +
+            "rating_count = coalesce(rating_count, 0) + cast(:newRating > 0 as int) - cast(:oldRating > 0 as int), " +
+            "one_star_count = coalesce(one_star_count, 0) + cast(:newRating = 1 as int) - cast(:oldRating = 1 as int), " +
+            "two_star_count = coalesce(two_star_count, 0) + cast(:newRating = 2 as int) - cast(:oldRating = 2 as int), " +
+            "three_star_count = coalesce(three_star_count, 0) + cast(:newRating = 3 as int) - cast(:oldRating = 3 as int), " +
+            "four_star_count = coalesce(four_star_count, 0) + cast(:newRating = 4 as int) - cast(:oldRating = 4 as int), " +
+            "five_star_count = coalesce(five_star_count, 0) + cast(:newRating = 5 as int) - cast(:oldRating = 5 as int), " +
+            "average_rating = case " +
+            "when coalesce(rating_count, 0) + cast(:newRating > 0 as int) - cast(:oldRating > 0 as int) > 0 " +
+            "then round(cast(coalesce(rating_sum, 0) + :newRating - :oldRating as numeric) " +
+            "/ (coalesce(rating_count, 0) + cast(:newRating > 0 as int) - cast(:oldRating > 0 as int)), 1) " +
+            "else 0 end, " +
+            "updated_at = clock_timestamp() " +
+            "where id = :perfumeId", nativeQuery = true)
+    int applyRatingChange(@Param("perfumeId") Long perfumeId,
+                          @Param("oldRating") int oldRating,
+                          @Param("newRating") int newRating);
+
+    @Modifying
+    @Query(value = "update products p set " +
+            "rating_sum = s.total, rating_count = s.cnt, " +
+            "one_star_count = s.c1, two_star_count = s.c2, three_star_count = s.c3, " +
+            "four_star_count = s.c4, five_star_count = s.c5, " +
+            "average_rating = case when s.cnt > 0 then round(cast(s.total as numeric) / s.cnt, 1) else 0 end, " +
+            "updated_at = clock_timestamp() " +
+            "from (select coalesce(sum(r.rating), 0) as total, count(r.id) as cnt, " +
+            "count(case when r.rating = 1 then 1 end) as c1, count(case when r.rating = 2 then 1 end) as c2, " +
+            "count(case when r.rating = 3 then 1 end) as c3, count(case when r.rating = 4 then 1 end) as c4, " +
+            "count(case when r.rating = 5 then 1 end) as c5 " +
+            "from ratings r where r.perfume_id = :perfumeId) s " +
+            "where p.id = :perfumeId", nativeQuery = true)
+    int recomputeRatingStats(@Param("perfumeId") Long perfumeId);
+
+    @Query("select p.id from Perfume p where p.brand.id = :brandId")
+    List<Long> findIdsByBrandId(@Param("brandId") Long brandId);
+
+    @Query("select p.id from Perfume p where p.category.id = :categoryId")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+}
@@ -1,10 +1,13 @@
 package org.perfume.domain.repo;
 
 import org.perfume.domain.entity.Rating;
+import org.perfume.model.dto.response.RatingFeedItemResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,12 +18,43 @@ public interface RatingDao extends JpaRepository<Rating, Long> {
 
     boolean existsByUserIdAndPerfumeId(Long userId, Long perfumeId);
 
-    @Query("SELECT AVG(r.rating) FROM Rating r WHERE r.perfume.id = :perfumeId")
-    Double getAverageRatingByPerfumeId(@Param("perfumeId") Long perfumeId);
+    @Query("SELECT r.perfume.id FROM Rating r WHERE r.user.id = :userId")
+    List<Long> findPerfumeIdsByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT COUNT(r) FROM Rating r WHERE r.perfume.id = :perfumeId")
-    Long getRatingCountByPerfumeId(@Param("perfumeId") Long perfumeId);
-
-    @Query("SELECT r FROM Rating r WHERE r.perfume.id = :perfumeId ORDER BY r.createdAt DESC")
+    @Query("SELECT r FROM Rating r JOIN FETCH r.user JOIN FETCH r.perfume WHERE r.perfume.id = :perfumeId ORDER BY r.createdAt DESC")
     List<Rating> findByPerfumeIdOrderByCreatedAtDesc(@Param("perfumeId") Long perfumeId);
+
+    @Query("SELECT new org.perfume.model.dto.response.RatingFeedItemResponse(r.id, r.rating, r.comment, u.name, r.createdAt, r.updatedAt) " +
+            "FROM Rating r JOIN r.user u " +
+            "WHERE r.perfume.id = :perfumeId " +
+            "AND (r.createdAt, r.id) < (:createdAt, :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RatingFeedItemResponse> findFeedNewest(@Param("perfumeId") Long perfumeId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query("SELECT new org.perfume.model.dto.response.RatingFeedItemResponse(r.id, r.rating, r.comment, u.name, r.createdAt, r.updatedAt) " +
+            "FROM Rating r JOIN r.user u " +
+            "WHERE r.perfume.id = :perfumeId " +
+            "AND (r.rating < :rating OR (r.rating = :rating AND " +
+            "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)))) " +
+            "ORDER BY r.rating DESC, r.createdAt DESC, r.id DESC")
+    List<RatingFeedItemResponse> findFeedHighest(@Param("perfumeId") Long perfumeId,
+                                                 @Param("rating") Integer rating,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("SELECT new org.perfume.model.dto.response.RatingFeedItemResponse(r.id, r.rating, r.comment, u.name, r.createdAt, r.updatedAt) " +
+            "FROM Rating r JOIN r.user u " +
+            "WHERE r.perfume.id = :perfumeId " +
+            "AND (r.rating > :rating OR (r.rating = :rating AND " +
+            "(r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)))) " +
+            "ORDER BY r.rating ASC, r.createdAt DESC, r.id DESC")
+    List<RatingFeedItemResponse> findFeedLowest(@Param("perfumeId") Long perfumeId,
+                                                @Param("rating") Integer rating,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package org.perfume.domain.repo;
+
+import org.perfume.domain.entity.RatingEligibility;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RatingEligibilityDao extends JpaRepository<RatingEligibility, Long> {
+
+    boolean existsByUserIdAndPerfumeId(Long userId, Long perfumeId);
+
+    @Query("select e.perfumeId from RatingEligibility e where e.userId = :userId")
+    List<Long> findPerfumeIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "insert into rating_eligibility (user_id, perfume_id, delivered_orders, created_at) " +
+            "select o.user_id, oi.perfume_id, 1, now() from orders o join order_items oi on oi.order_id = o.id " +
+            "where o.id = :orderId group by o.user_id, oi.perfume_id " +
+            "on conflict (user_id, perfume_id) do update " +
+            "set delivered_orders = rating_eligibility.delivered_orders + 1", nativeQuery = true)
+    int grantForOrder(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query(value = "update rating_eligibility e set delivered_orders = e.delivered_orders - 1 " +
+            "from orders o where o.id = :orderId and e.user_id = o.user_id " +
+            "and e.perfume_id in (select oi.perfume_id from order_items oi where oi.order_id = :orderId)", nativeQuery = true)
+    int revokeForOrder(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query(value = "delete from rating_eligibility where user_id = :userId and delivered_orders <= 0", nativeQuery = true)
+    int deleteExhausted(@Param("userId") Long userId);
+}
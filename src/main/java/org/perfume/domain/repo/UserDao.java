@@ -1,33 +1,52 @@
 package org.perfume.domain.repo;
 
 import org.perfume.domain.entity.User;
+import org.perfume.domain.view.UserView;
 import org.perfume.model.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserDao extends JpaRepository<User, Long> {
+    String USER_VIEW_SELECT = "select new org.perfume.domain.view.UserView(" +
+            "u.id, u.name, u.email, u.phoneNumber, u.role, u.isGoogleUser, u.isVerified, u.createdAt) " +
+            "from User u ";
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
     List<User> findByIsGoogleUserTrue();
 
-    List<User> findByRole(UserRole role);
-
     Optional<User> findByPhoneNumber(String phoneNumber);
 
-    @Query("select u from User u where lower(u.name) LIKE lower(concat('%', :name, '%') ) or lower(u.email) like lower(concat('%', :email, '%') ) ")
-    List<User> findByNameOrEmailContaining(@Param("name") String name, @Param("email") String email);
-
-    @Query("select u from User u order by u.createdAt desc ")
-    List<User> findRecentlyRegistered();
-
-    @Query("select distinct u from User u join u.orders o where o.status != 'CANCELLED'")
-    List<User> findUsersWithActiveOrders();
+    @Query(USER_VIEW_SELECT +
+            "where (u.createdAt, u.id) < (:createdAt, :id) " +
+            "order by u.createdAt desc, u.id desc")
+    List<UserView> findUserPage(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query(USER_VIEW_SELECT +
+            "where u.role = :role and (u.createdAt, u.id) < (:createdAt, :id) " +
+            "order by u.createdAt desc, u.id desc")
+    List<UserView> findUserPageByRole(@Param("role") UserRole role,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @Query(USER_VIEW_SELECT +
+            "join CustomerStats s on s.userId = u.id " +
+            "where s.activeOrderCount > 0 and (u.createdAt, u.id) < (:createdAt, :id) " +
+            "order by u.createdAt desc, u.id desc")
+    List<UserView> findUserPageWithActiveOrders(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
 }
@@ -0,0 +1,107 @@
+package org.perfume.domain.repo;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.domain.view.UserSearchHit;
+import org.perfume.domain.view.UserView;
+import org.perfume.model.enums.UserRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Slf4j
+@Timed
+@Repository
+public class UserSearchDao {
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final String USER_COLUMNS = "id, name, email, phone_number, role, is_google_user, is_verified, created_at";
+
+    private static final String SEARCH_SQL = "select * from (" +
+            "select " + USER_COLUMNS + ", round(greatest(similarity(lower(name), ?), similarity(lower(email), ?), " +
+            "case when lower(email) like ? then 1 else 0 end)::numeric, 4) as rank " +
+            "from users " +
+            "where lower(name) % ? or lower(email) % ? or lower(name) like ? or lower(email) like ?" +
+            ") ranked " +
+            "where (rank, -id) < (?, ?) " +
+            "order by rank desc, id asc " +
+            "limit ?";
+
+    private static final String LIKE_SEARCH_SQL = "select * from (" +
+            "select " + USER_COLUMNS + ", case when lower(name) like ? or lower(email) like ? then 1 else 0.5 end as rank " +
+            "from users " +
+            "where lower(name) like ? or lower(email) like ?" +
+            ") ranked " +
+            "where (rank, -id) < (?, ?) " +
+            "order by rank desc, id asc " +
+            "limit ?";
+
+    private static final String TRIGRAM_AVAILABLE_SQL = "select exists (select 1 from pg_extension where extname = 'pg_trgm')";
+
+    private static final String EXPORT_SQL = "select " + USER_COLUMNS + " from users order by id";
+
+    private static final RowMapper<UserView> USER_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new UserView(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("phone_number"),
+                UserRole.valueOf(rs.getString("role")),
+                rs.getBoolean("is_google_user"),
+                rs.getBoolean("is_verified"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportTemplate;
+    private volatile Boolean trigramAvailable;
+
+    public UserSearchDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.exportTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    }
+
+    public List<UserSearchHit> search(String term, BigDecimal afterRank, Long afterId, int limit) {
+        String query = term.toLowerCase();
+        String pattern = "%" + escapeLike(query) + "%";
+        String prefix = escapeLike(query) + "%";
+        RowMapper<UserSearchHit> mapper = (rs, rowNum) ->
+                new UserSearchHit(USER_ROW_MAPPER.mapRow(rs, rowNum), rs.getBigDecimal("rank"));
+
+        if (!isTrigramAvailable()) {
+            return jdbcTemplate.query(LIKE_SEARCH_SQL, mapper,
+                    prefix, prefix, pattern, pattern, afterRank, -afterId, limit);
+        }
+        return jdbcTemplate.query(SEARCH_SQL, mapper,
+                query, query, prefix, query, query, pattern, pattern, afterRank, -afterId, limit);
+    }
+
+    public void streamAll(Consumer<UserView> consumer) {
+        exportTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> consumer.accept(USER_ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        if (available == null) {
+            available = Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRIGRAM_AVAILABLE_SQL, Boolean.class));
+            if (!available) {
+                log.warn("pg_trgm extension is not installed, user search falls back to substring matching");
+            }
+            trigramAvailable = available;
+        }
+        return available;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,15 @@
+package org.perfume.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class CartBadgeView {
+    public static final CartBadgeView EMPTY = new CartBadgeView(0, BigDecimal.ZERO);
+
+    private final Integer itemCount;
+    private final BigDecimal totalPrice;
+}
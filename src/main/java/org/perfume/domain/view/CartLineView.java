@@ -0,0 +1,77 @@
+package org.perfume.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.domain.entity.Perfume;
+import org.perfume.model.enums.FragranceFamily;
+import org.perfume.model.enums.Gender;
+import org.perfume.model.enums.Volume;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartLineView {
+    private Long cartId;
+    private Long itemId;
+    private Integer quantity;
+    private Long perfumeId;
+    private String perfumeName;
+    private String description;
+    private BigDecimal price;
+    private Integer discountPercent;
+    private String imageUrl;
+    private Integer stockQuantity;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Boolean featured;
+    private Boolean bestseller;
+    private FragranceFamily fragranceFamily;
+    private Gender gender;
+    private Volume volume;
+    private Double averageRating;
+    private Long ratingCount;
+    private Long brandId;
+    private String brandName;
+    private Long categoryId;
+    private String categoryName;
+
+    public static CartLineView of(Long cartId, Integer quantity, Perfume perfume) {
+        return new CartLineView(
+                cartId,
+                null,
+                quantity,
+                perfume.getId(),
+                perfume.getName(),
+                perfume.getDescription(),
+                perfume.getPrice(),
+                perfume.getDiscountPercent(),
+                perfume.getImageUrl(),
+                perfume.getStockQuantity(),
+                perfume.getCreatedAt(),
+                perfume.getUpdatedAt(),
+                perfume.isFeatured(),
+                perfume.isBestseller(),
+                perfume.getFragranceFamily(),
+                perfume.getGender(),
+                perfume.getVolume(),
+                perfume.getAverageRating(),
+                perfume.getRatingCount(),
+                perfume.getBrand().getId(),
+                perfume.getBrand().getName(),
+                perfume.getCategory().getId(),
+                perfume.getCategory().getName()
+        );
+    }
+
+    public BigDecimal getDiscountedPrice() {
+        return Perfume.calculateDiscountedPrice(price, discountPercent);
+    }
+
+    public BigDecimal getSubtotal() {
+        return getDiscountedPrice().multiply(BigDecimal.valueOf(quantity));
+    }
+}
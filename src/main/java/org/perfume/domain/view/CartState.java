@@ -0,0 +1,131 @@
+package org.perfume.domain.view;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class CartState {
+
+    @Getter
+    @Setter
+    private Long cartId;
+
+    private final Map<Long, CartLineView> lines = new LinkedHashMap<>();
+    private final Set<Long> changed = new HashSet<>();
+    private final Set<Long> removed = new HashSet<>();
+
+    public CartState(Long cartId) {
+        this.cartId = cartId;
+    }
+
+    public void attach(CartLineView line) {
+        lines.put(line.getPerfumeId(), line);
+    }
+
+    public Optional<CartLineView> find(Long perfumeId) {
+        return Optional.ofNullable(lines.get(perfumeId));
+    }
+
+    public List<CartLineView> getLines() {
+        return new ArrayList<>(lines.values());
+    }
+
+    public void put(CartLineView line) {
+        line.setCartId(cartId);
+        lines.put(line.getPerfumeId(), line);
+        changed.add(line.getPerfumeId());
+        removed.remove(line.getPerfumeId());
+    }
+
+    public void updateQuantity(Long perfumeId, int quantity) {
+        CartLineView line = lines.get(perfumeId);
+        if (line != null) {
+            line.setQuantity(quantity);
+            changed.add(perfumeId);
+        }
+    }
+
+    public void remove(Long perfumeId) {
+        if (lines.remove(perfumeId) != null) {
+            changed.remove(perfumeId);
+            removed.add(perfumeId);
+        }
+    }
+
+    public void discard(Long perfumeId) {
+        lines.remove(perfumeId);
+        changed.remove(perfumeId);
+        removed.remove(perfumeId);
+    }
+
+    public void clear() {
+        lines.clear();
+        changed.clear();
+        removed.clear();
+    }
+
+    public CartBadgeView toBadge() {
+        return new CartBadgeView(getTotalQuantity(), getTotalPrice());
+    }
+
+    public int getTotalQuantity() {
+        return lines.values().stream()
+                .mapToInt(CartLineView::getQuantity)
+                .sum();
+    }
+
+    public BigDecimal getTotalPrice() {
+        return lines.values().stream()
+                .map(CartLineView::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    public boolean hasPendingChanges() {
+        return !changed.isEmpty() || !removed.isEmpty();
+    }
+
+    public Changes drainChanges() {
+        Map<Long, Integer> upserts = new LinkedHashMap<>();
+        for (Long perfumeId : changed) {
+            upserts.put(perfumeId, lines.get(perfumeId).getQuantity());
+        }
+
+        Changes changes = new Changes(cartId, upserts, new HashSet<>(removed), getTotalQuantity(), getTotalPrice());
+        changed.clear();
+        removed.clear();
+        return changes;
+    }
+
+    public void restore(Changes changes) {
+        for (Long perfumeId : changes.getUpserts().keySet()) {
+            if (lines.containsKey(perfumeId)) {
+                changed.add(perfumeId);
+            }
+        }
+
+        for (Long perfumeId : changes.getRemovals()) {
+            if (!lines.containsKey(perfumeId)) {
+                removed.add(perfumeId);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Changes {
+        private final Long cartId;
+        private final Map<Long, Integer> upserts;
+        private final Set<Long> removals;
+        private final int itemCount;
+        private final BigDecimal totalPrice;
+    }
+}
@@ -0,0 +1,19 @@
+package org.perfume.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.perfume.model.enums.FavoriteAlertType;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class FavoriteNotificationView {
+    private final Long id;
+    private final String email;
+    private final String userName;
+    private final String perfumeName;
+    private final FavoriteAlertType type;
+    private final Integer discountPercent;
+    private final BigDecimal price;
+}
@@ -0,0 +1,28 @@
+package org.perfume.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.perfume.domain.entity.Brand;
+import org.perfume.domain.entity.Category;
+import org.perfume.domain.entity.Perfume;
+import org.perfume.domain.entity.Rating;
+import org.perfume.domain.entity.User;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class FavoriteView {
+    private final Long favoriteId;
+    private final LocalDateTime createdAt;
+    private final User user;
+    private final Perfume perfume;
+    private final Brand brand;
+    private final Category category;
+    private final Rating rating;
+    private final Long eligibilityId;
+
+    public boolean isRateable() {
+        return rating == null && eligibilityId != null;
+    }
+}
@@ -0,0 +1,13 @@
+package org.perfume.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class UserSearchHit {
+    private final UserView user;
+    private final BigDecimal rank;
+}
@@ -0,0 +1,20 @@
+package org.perfume.domain.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.perfume.model.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class UserView {
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String phoneNumber;
+    private final UserRole role;
+    private final boolean googleUser;
+    private final boolean verified;
+    private final LocalDateTime createdAt;
+}
@@ -2,8 +2,12 @@ package org.perfume.mapper;
 
 import lombok.RequiredArgsConstructor;
 import org.perfume.domain.entity.CartItem;
+import org.perfume.domain.view.CartLineView;
+import org.perfume.model.dto.response.BrandSimpleResponse;
 import org.perfume.model.dto.response.CartItemResponse;
 import org.perfume.model.dto.response.CartItemSimpleResponse;
+import org.perfume.model.dto.response.CategorySimpleResponse;
+import org.perfume.model.dto.response.PerfumeResponse;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -31,6 +35,18 @@ public class CartItemMapper implements EntityMapper<CartItem, CartItemResponse>
         );
     }
 
+    public CartItemResponse toDto(CartLineView line) {
+        if (line == null) {
+            return null;
+        }
+
+        return new CartItemResponse(
+                line.getItemId(),
+                toPerfumeDto(line),
+                line.getQuantity(),
+                line.getSubtotal()
+        );
+    }
 
     public CartItemSimpleResponse toSimpleDto(CartItem entity) {
         if (entity == null) {
@@ -49,6 +65,30 @@ public class CartItemMapper implements EntityMapper<CartItem, CartItemResponse>
         );
     }
 
+    private PerfumeResponse toPerfumeDto(CartLineView line) {
+        PerfumeResponse response = new PerfumeResponse();
+        response.setId(line.getPerfumeId());
+        response.setName(line.getPerfumeName());
+        response.setDescription(line.getDescription());
+        response.setPrice(line.getPrice());
+        response.setDiscountedPrice(line.getDiscountedPrice());
+        response.setImageUrl(line.getImageUrl());
+        response.setStockQuantity(line.getStockQuantity());
+        response.setCreatedAt(line.getCreatedAt());
+        response.setUpdatedAt(line.getUpdatedAt());
+        response.setBrand(new BrandSimpleResponse(line.getBrandId(), line.getBrandName()));
+        response.setCategory(new CategorySimpleResponse(line.getCategoryId(), line.getCategoryName()));
+        response.setFeatured(Boolean.TRUE.equals(line.getFeatured()));
+        response.setBestseller(Boolean.TRUE.equals(line.getBestseller()));
+        response.setDiscountPercent(line.getDiscountPercent());
+        response.setFragranceFamily(line.getFragranceFamily());
+        response.setGender(line.getGender());
+        response.setVolume(line.getVolume());
+        response.setAverageRating(line.getAverageRating());
+        response.setRatingCount(line.getRatingCount());
+        return response;
+    }
+
     @Override
     public CartItem toEntity(CartItemResponse dto) {
         if (dto == null) {
@@ -2,6 +2,7 @@ package org.perfume.mapper;
 
 import lombok.RequiredArgsConstructor;
 import org.perfume.domain.entity.Cart;
+import org.perfume.domain.view.CartState;
 import org.perfume.model.dto.response.CartResponse;
 import org.springframework.stereotype.Component;
 
@@ -29,6 +30,17 @@ public class CartMapper implements EntityMapper<Cart, CartResponse> {
         );
     }
 
+    public CartResponse toDto(CartState state) {
+        return new CartResponse(
+                state.getCartId(),
+                state.getLines().stream()
+                        .map(cartItemMapper::toDto)
+                        .collect(Collectors.toList()),
+                state.getTotalPrice(),
+                state.getTotalQuantity()
+        );
+    }
+
     @Override
     public Cart toEntity(CartResponse dto) {
         if (dto == null) {
@@ -2,6 +2,7 @@ package org.perfume.mapper;
 
 import lombok.RequiredArgsConstructor;
 import org.perfume.domain.entity.Favorite;
+import org.perfume.domain.view.FavoriteView;
 import org.perfume.model.dto.response.FavoriteResponse;
 import org.perfume.model.dto.response.PerfumeResponse;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,7 @@ public class FavoriteMapper implements EntityMapper<Favorite, FavoriteResponse>
 
     private final PerfumeMapper perfumeMapper;
     private final UserMapper userMapper;
+    private final RatingMapper ratingMapper;
 
     @Override
     public FavoriteResponse toDto(Favorite entity) {
@@ -19,7 +21,7 @@ public class FavoriteMapper implements EntityMapper<Favorite, FavoriteResponse>
             return null;
         }
 
-        PerfumeResponse perfumeResponse = perfumeMapper.toDto(entity.getPerfume(), entity.getId());
+        PerfumeResponse perfumeResponse = perfumeMapper.toDto(entity.getPerfume(), entity.getUser().getId());
         perfumeResponse.setFavorite(true);
 
         return new FavoriteResponse(
@@ -30,6 +32,24 @@ public class FavoriteMapper implements EntityMapper<Favorite, FavoriteResponse>
         );
     }
 
+    public FavoriteResponse toDto(FavoriteView view) {
+        if (view == null) {
+            return null;
+        }
+
+        PerfumeResponse perfumeResponse = perfumeMapper.toDto(view.getPerfume());
+        perfumeResponse.setFavorite(true);
+        perfumeResponse.setRating(ratingMapper.toDto(view.getRating()));
+        perfumeResponse.setCanRating(view.isRateable());
+
+        return new FavoriteResponse(
+                view.getFavoriteId(),
+                view.getUser().getName(),
+                perfumeResponse,
+                view.getCreatedAt()
+        );
+    }
+
     @Override
     public Favorite toEntity(FavoriteResponse dto) {
         if (dto == null) {
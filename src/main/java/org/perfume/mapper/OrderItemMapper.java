@@ -15,15 +15,15 @@ public class OrderItemMapper implements EntityMapper<OrderItem, OrderItemRespons
             return null;
         }
 
-        String perfumeName = entity.getPerfume() != null ? entity.getPerfume().getName() : "Unknown Product";
-        String brandName = entity.getPerfume() != null && entity.getPerfume().getBrand() != null
-                ? entity.getPerfume().getBrand().getName()
-                : "Unknown Brand";
+        String perfumeName = entity.getPerfumeName() != null ? entity.getPerfumeName() : "Unknown Product";
+        String brandName = entity.getBrandName() != null ? entity.getBrandName() : "Unknown Brand";
 
         return new OrderItemResponse(
                 entity.getId(),
                 perfumeName,
                 brandName,
+                entity.getVolume(),
+                entity.getImageUrl(),
                 entity.getQuantity(),
                 entity.getUnitPrice(),
                 entity.getSubtotal()
@@ -40,6 +40,10 @@ public class OrderItemMapper implements EntityMapper<OrderItem, OrderItemRespons
         entity.setId(dto.getId());
         entity.setQuantity(dto.getQuantity());
         entity.setUnitPrice(dto.getUnitPrice());
+        entity.setPerfumeName(dto.getProductName());
+        entity.setBrandName(dto.getBrandName());
+        entity.setVolume(dto.getVolume());
+        entity.setImageUrl(dto.getImageUrl());
         return entity;
     }
 }
\ No newline at end of file
@@ -6,14 +6,12 @@ import org.perfume.domain.entity.Rating;
 import org.perfume.domain.repo.BrandDao;
 import org.perfume.domain.repo.CategoryDao;
 import org.perfume.domain.repo.RatingDao;
-import org.perfume.domain.repo.OrderDao;
-import org.perfume.domain.repo.FavoriteDao; // Add this import
 import org.perfume.exception.NotFoundException;
 import org.perfume.model.dto.request.PerfumeRequest;
 import org.perfume.model.dto.response.MostPerfumesResponse;
 import org.perfume.model.dto.response.PerfumeResponse;
 import org.perfume.model.dto.response.PerfumeSimpleResponse;
-import org.perfume.model.enums.OrderStatus;
+import org.perfume.service.impl.UserRelationshipCache;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -28,8 +26,7 @@ public class PerfumeMapper implements EntityMapper<Perfume, PerfumeResponse> {
     private final BrandDao brandDao;
     private final CategoryDao categoryDao;
     private final RatingDao ratingDao;
-    private final OrderDao orderDao;
-    private final FavoriteDao favoriteDao;
+    private final UserRelationshipCache userRelationshipCache;
 
     @Override
     public PerfumeResponse toDto(Perfume entity) {
@@ -63,28 +60,60 @@ public class PerfumeMapper implements EntityMapper<Perfume, PerfumeResponse> {
         response.setAverageRating(entity.getAverageRating());
         response.setRatingCount(entity.getRatingCount());
 
-        if (userId != null) {
-            boolean isFavorite = favoriteDao.existsByUserIdAndPerfumeId(userId, entity.getId());
-            response.setFavorite(isFavorite);
+        applyUserState(response, userId);
+        return response;
+    }
 
-            Optional<Rating> userRating = ratingDao.findByUserIdAndPerfumeId(userId, entity.getId());
+    public PerfumeResponse withUserState(PerfumeResponse shared, Long userId) {
+        PerfumeResponse response = new PerfumeResponse(
+                shared.getId(),
+                shared.getName(),
+                shared.getDescription(),
+                shared.getPrice(),
+                shared.getDiscountedPrice(),
+                shared.getImageUrl(),
+                shared.getStockQuantity(),
+                shared.getCreatedAt(),
+                shared.getUpdatedAt(),
+                shared.getBrand(),
+                shared.getCategory(),
+                shared.isFeatured(),
+                shared.isBestseller(),
+                shared.getDiscountPercent(),
+                shared.getFragranceFamily(),
+                shared.getGender(),
+                shared.getVolume(),
+                false,
+                shared.getAverageRating(),
+                shared.getRatingCount(),
+                false,
+                null
+        );
 
-            if (userRating.isPresent()) {
-                response.setRating(ratingMapper.toDto(userRating.get()));
-                response.setCanRating(false);
-            } else {
-                boolean canRate = orderDao.existsByUserIdAndPerfumeIdAndStatus(
-                        userId, entity.getId(), OrderStatus.DELIVERED);
+        applyUserState(response, userId);
+        return response;
+    }
 
-                response.setRating(null);
-                response.setCanRating(canRate);
-            }
-        } else {
+    private void applyUserState(PerfumeResponse response, Long userId) {
+        if (userId == null) {
             response.setRating(null);
             response.setCanRating(false);
+            return;
         }
 
-        return response;
+        response.setFavorite(userRelationshipCache.isFavorite(userId, response.getId()));
+
+        Optional<Rating> userRating = userRelationshipCache.isRated(userId, response.getId())
+                ? ratingDao.findByUserIdAndPerfumeId(userId, response.getId())
+                : Optional.empty();
+
+        if (userRating.isPresent()) {
+            response.setRating(ratingMapper.toDto(userRating.get()));
+            response.setCanRating(false);
+        } else {
+            response.setRating(null);
+            response.setCanRating(userRelationshipCache.canRate(userId, response.getId()));
+        }
     }
 
     public PerfumeSimpleResponse toSimpleDto(Perfume entity) {
@@ -136,8 +165,7 @@ public class PerfumeMapper implements EntityMapper<Perfume, PerfumeResponse> {
         response.setRatingCount(entity.getRatingCount());
 
         if (userId != null) {
-            boolean isFavorite = favoriteDao.existsByUserIdAndPerfumeId(userId, entity.getId());
-            response.setFavorite(isFavorite);
+            response.setFavorite(userRelationshipCache.isFavorite(userId, entity.getId()));
         } else {
             response.setFavorite(false);
         }
@@ -1,6 +1,7 @@
 package org.perfume.mapper;
 
 import org.perfume.domain.entity.User;
+import org.perfume.domain.view.UserView;
 import org.perfume.model.dto.response.UserResponse;
 import org.springframework.stereotype.Component;
 
@@ -24,6 +25,18 @@ public class UserMapper implements EntityMapper<User, UserResponse> {
         );
     }
 
+    public UserResponse toDto(UserView view) {
+        return new UserResponse(
+                view.getId(),
+                view.getName(),
+                view.getEmail(),
+                view.getPhoneNumber(),
+                view.getRole(),
+                view.isGoogleUser(),
+                view.isVerified()
+        );
+    }
+
     @Override
     public User toEntity(UserResponse dto) {
         if (dto == null) {
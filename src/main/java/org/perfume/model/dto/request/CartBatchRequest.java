@@ -0,0 +1,18 @@
+package org.perfume.model.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBatchRequest {
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 100, message = "At most 100 operations are allowed per batch")
+    private List<CartOperationRequest> operations;
+}
@@ -0,0 +1,15 @@
+package org.perfume.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.model.enums.CartOperationType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartOperationRequest {
+    private CartOperationType type;
+    private Long perfumeId;
+    private Integer quantity;
+}
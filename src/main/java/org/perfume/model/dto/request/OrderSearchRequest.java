@@ -0,0 +1,29 @@
+package org.perfume.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.PhoneMatchMode;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchRequest {
+    private OrderStatus status;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    private String phone;
+    private PhoneMatchMode phoneMatch = PhoneMatchMode.EXACT;
+    private boolean includeItems = false;
+    private String cursor;
+    private Integer size = 20;
+}
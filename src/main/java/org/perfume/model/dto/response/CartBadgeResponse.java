@@ -0,0 +1,15 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBadgeResponse {
+    private int itemCount;
+    private BigDecimal totalPrice;
+}
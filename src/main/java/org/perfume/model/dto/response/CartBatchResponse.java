@@ -0,0 +1,15 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBatchResponse {
+    private CartResponse cart;
+    private List<CartOperationResultResponse> results;
+}
@@ -0,0 +1,17 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.model.enums.CartOperationType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartOperationResultResponse {
+    private int index;
+    private CartOperationType type;
+    private Long perfumeId;
+    private boolean success;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChangeEventResponse {
+    private CatalogEntityType entityType;
+    private Long id;
+    private CatalogChangeType changeType;
+    private LocalDateTime changedAt;
+}
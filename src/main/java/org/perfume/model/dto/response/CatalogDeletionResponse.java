@@ -0,0 +1,17 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.model.enums.CatalogEntityType;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogDeletionResponse {
+    private CatalogEntityType entityType;
+    private Long id;
+    private LocalDateTime deletedAt;
+}
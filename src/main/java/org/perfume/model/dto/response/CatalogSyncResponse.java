@@ -0,0 +1,20 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogSyncResponse {
+    private List<PerfumeResponse> perfumes;
+    private List<BrandResponse> brands;
+    private List<CategoryResponse> categories;
+    private List<CatalogDeletionResponse> deleted;
+    private String nextVersion;
+    private boolean hasMore;
+    private boolean fullResyncRequired;
+}
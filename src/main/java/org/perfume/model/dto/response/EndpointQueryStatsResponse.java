@@ -0,0 +1,20 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointQueryStatsResponse {
+    private String endpoint;
+    private long requests;
+    private long overBudgetRequests;
+    private double averageStatements;
+    private int maxStatements;
+    private long entityLoads;
+    private long collectionLoads;
+    private String repeatedStatement;
+    private int repeatedCount;
+}
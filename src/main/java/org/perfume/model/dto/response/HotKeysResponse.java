@@ -0,0 +1,16 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotKeysResponse {
+    private int windowMinutes;
+    private List<HotKeyResponse> products;
+    private List<HotKeyResponse> searches;
+}
@@ -3,6 +3,7 @@ package org.perfume.model.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.perfume.model.enums.Volume;
 
 import java.math.BigDecimal;
 
@@ -13,6 +14,8 @@ public class OrderItemResponse {
     private Long id;
     private String productName;
     private String brandName;
+    private Volume volume;
+    private String imageUrl;
     private Integer quantity;
     private BigDecimal unitPrice;
     private BigDecimal subtotal;
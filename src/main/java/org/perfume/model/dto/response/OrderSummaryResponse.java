@@ -0,0 +1,34 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.perfume.model.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryResponse {
+    private Long id;
+    private Long userId;
+    private String customerName;
+    private String customerEmail;
+    private BigDecimal totalAmount;
+    private OrderStatus status;
+    private String whatsappNumber;
+    private String deliveryAddress;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<OrderItemResponse> items;
+
+    public OrderSummaryResponse(Long id, Long userId, String customerName, String customerEmail,
+                                BigDecimal totalAmount, OrderStatus status, String whatsappNumber,
+                                String deliveryAddress, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, customerName, customerEmail, totalAmount, status, whatsappNumber,
+                deliveryAddress, createdAt, updatedAt, null);
+    }
+}
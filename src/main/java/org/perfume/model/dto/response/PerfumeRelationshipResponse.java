@@ -0,0 +1,15 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerfumeRelationshipResponse {
+    private Long perfumeId;
+    private boolean favorite;
+    private boolean rated;
+    private boolean canRate;
+}
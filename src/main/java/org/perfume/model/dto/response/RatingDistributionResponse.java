@@ -0,0 +1,19 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingDistributionResponse {
+    private Long perfumeId;
+    private Double averageRating;
+    private Long ratingCount;
+    private Long oneStarCount;
+    private Long twoStarCount;
+    private Long threeStarCount;
+    private Long fourStarCount;
+    private Long fiveStarCount;
+}
@@ -0,0 +1,19 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingFeedItemResponse {
+    private Long id;
+    private Integer rating;
+    private String comment;
+    private String userName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
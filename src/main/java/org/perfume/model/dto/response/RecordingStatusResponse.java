@@ -0,0 +1,21 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingStatusResponse {
+    private long id;
+    private String name;
+    private String state;
+    private Instant startTime;
+    private Instant stopTime;
+    private Long durationSeconds;
+    private long maxSizeBytes;
+    private long sizeBytes;
+}
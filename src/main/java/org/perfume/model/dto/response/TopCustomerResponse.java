@@ -0,0 +1,21 @@
+package org.perfume.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopCustomerResponse {
+    private Long userId;
+    private String name;
+    private String email;
+    private Long orderCount;
+    private BigDecimal totalSpent;
+    private Long activeOrderCount;
+    private LocalDateTime lastOrderAt;
+}
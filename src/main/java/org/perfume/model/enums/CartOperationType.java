@@ -0,0 +1,7 @@
+package org.perfume.model.enums;
+
+public enum CartOperationType {
+    ADD,
+    UPDATE,
+    REMOVE
+}
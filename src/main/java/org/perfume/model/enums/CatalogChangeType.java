@@ -0,0 +1,6 @@
+package org.perfume.model.enums;
+
+public enum CatalogChangeType {
+    UPSERT,
+    DELETE
+}
@@ -0,0 +1,7 @@
+package org.perfume.model.enums;
+
+public enum CatalogEntityType {
+    BRAND,
+    CATEGORY,
+    PERFUME
+}
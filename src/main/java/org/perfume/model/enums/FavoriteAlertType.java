@@ -0,0 +1,6 @@
+package org.perfume.model.enums;
+
+public enum FavoriteAlertType {
+    PRICE_DROP,
+    BACK_IN_STOCK
+}
@@ -0,0 +1,17 @@
+package org.perfume.model.enums;
+
+public enum RatingSort {
+    NEWEST("Newest"),
+    HIGHEST("Highest"),
+    LOWEST("Lowest");
+
+    private final String displayName;
+
+    RatingSort(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
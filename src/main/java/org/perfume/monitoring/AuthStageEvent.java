@@ -0,0 +1,63 @@
+package org.perfume.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.perfume.AuthStage")
+@Label("Auth Stage")
+@Description("One stage of login or registration, separating password hashing from database work")
+@Category({"Perfume Shop", "Auth"})
+@StackTrace(false)
+public class AuthStageEvent extends Event {
+
+    public enum Flow {
+        LOGIN,
+        REGISTER
+    }
+
+    public enum Stage {
+        LOAD_USER,
+        CHECK_EMAIL,
+        PASSWORD_VERIFY,
+        PASSWORD_HASH,
+        SAVE_USER,
+        ISSUE_TOKEN,
+        SEND_EMAIL
+    }
+
+    @Label("Flow")
+    private String flow;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Success")
+    private boolean success;
+
+    public static AuthStageEvent begin(Flow flow, Stage stage) {
+        AuthStageEvent event = new AuthStageEvent();
+        event.flow = flow.name();
+        event.stage = stage.name();
+        event.begin();
+        return event;
+    }
+
+    public void finish(Long userId) {
+        finish(userId, true);
+    }
+
+    public void finish(Long userId, boolean success) {
+        if (userId != null) {
+            this.userId = userId;
+        }
+        this.success = success;
+        commit();
+    }
+}
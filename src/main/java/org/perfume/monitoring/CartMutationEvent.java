@@ -0,0 +1,63 @@
+package org.perfume.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.perfume.CartMutation")
+@Label("Cart Mutation")
+@Description("A cart add, update, remove, batch or clear")
+@Category({"Perfume Shop", "Cart"})
+@StackTrace(false)
+public class CartMutationEvent extends Event {
+
+    public enum Operation {
+        ADD,
+        UPDATE,
+        REMOVE,
+        BATCH,
+        CLEAR
+    }
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Perfume Id")
+    private long perfumeId;
+
+    @Label("Quantity")
+    private int quantity;
+
+    @Label("Batch Operations")
+    private int batchOperations;
+
+    public static CartMutationEvent begin(Operation operation, Long userId, Long perfumeId, Integer quantity) {
+        CartMutationEvent event = new CartMutationEvent();
+        event.operation = operation.name();
+        event.userId = userId;
+        if (perfumeId != null) {
+            event.perfumeId = perfumeId;
+        }
+        if (quantity != null) {
+            event.quantity = quantity;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static CartMutationEvent beginBatch(Long userId, int batchOperations) {
+        CartMutationEvent event = begin(Operation.BATCH, userId, null, null);
+        event.batchOperations = batchOperations;
+        return event;
+    }
+
+    public void finish() {
+        commit();
+    }
+}
@@ -0,0 +1,59 @@
+package org.perfume.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.perfume.CheckoutStage")
+@Label("Checkout Stage")
+@Description("One stage of OrderServiceImpl.checkout")
+@Category({"Perfume Shop", "Checkout"})
+@StackTrace(false)
+public class CheckoutStageEvent extends Event {
+
+    public enum Stage {
+        LOAD_CART,
+        VALIDATE_STOCK,
+        INSERT_ORDER,
+        UPDATE_COUNTERS,
+        SEND_EMAIL,
+        CLEAR_CART,
+        UPDATE_STOCK,
+        BUILD_RESPONSE
+    }
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Order Id")
+    private long orderId;
+
+    @Label("Cart Items")
+    private int cartItems;
+
+    public static CheckoutStageEvent begin(Stage stage, Long userId) {
+        CheckoutStageEvent event = new CheckoutStageEvent();
+        event.stage = stage.name();
+        event.userId = userId;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int cartItems) {
+        finish(null, cartItems);
+    }
+
+    public void finish(Long orderId, int cartItems) {
+        if (orderId != null) {
+            this.orderId = orderId;
+        }
+        this.cartItems = cartItems;
+        commit();
+    }
+}
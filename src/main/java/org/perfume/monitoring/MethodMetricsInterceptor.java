@@ -0,0 +1,78 @@
+package org.perfume.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MethodMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String metricName;
+    private final String typeTag;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String metricName, String typeTag) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.typeTag = typeTag;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodTimers methodTimers = timersFor(invocation);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.failure(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MethodTimers timersFor(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            String type = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+            methodTimers = timers.computeIfAbsent(method, key -> new MethodTimers(type, key.getName()));
+        }
+        return methodTimers;
+    }
+
+    private class MethodTimers {
+
+        private final String type;
+        private final String method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        MethodTimers(String type, String method) {
+            this.type = type;
+            this.method = method;
+            this.success = timer("SUCCESS", "None");
+        }
+
+        Timer failure(Throwable e) {
+            return failures.computeIfAbsent(e.getClass(), exception -> timer("ERROR", exception.getSimpleName()));
+        }
+
+        private Timer timer(String state, String exception) {
+            return Timer.builder(metricName)
+                    .tag(typeTag, type)
+                    .tag("method", method)
+                    .tag("state", state)
+                    .tag("exception", exception)
+                    .register(meterRegistry.getObject());
+        }
+    }
+}
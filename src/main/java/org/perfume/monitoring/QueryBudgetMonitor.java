@@ -0,0 +1,101 @@
+package org.perfume.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.model.dto.response.EndpointQueryStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class QueryBudgetMonitor {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final int maxStatements;
+    private final int repeatedStatementThreshold;
+
+    public QueryBudgetMonitor(@Value("${app.query-budget.max-statements:20}") int maxStatements,
+                              @Value("${app.query-budget.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.maxStatements = maxStatements;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public void record(String endpoint, QueryStats stats) {
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatedStatementThreshold);
+        boolean overBudget = stats.getStatements() > maxStatements || !repeated.isEmpty();
+
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointStats()).add(stats, overBudget, repeated);
+
+        if (overBudget) {
+            log.warn("Query budget exceeded on {}: {} statements, {} entity loads, {} collection loads, repeated {}",
+                    endpoint, stats.getStatements(), stats.getEntityLoads(), stats.getCollectionLoads(), repeated);
+        }
+    }
+
+    public List<EndpointQueryStatsResponse> getOffenders() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .filter(response -> response.getOverBudgetRequests() > 0)
+                .sorted(Comparator.comparingLong(EndpointQueryStatsResponse::getOverBudgetRequests).reversed()
+                        .thenComparing(Comparator.comparingInt(EndpointQueryStatsResponse::getMaxStatements).reversed()))
+                .toList();
+    }
+
+    public List<EndpointQueryStatsResponse> getAll() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingDouble(EndpointQueryStatsResponse::getAverageStatements).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static class EndpointStats {
+
+        private long requests;
+        private long overBudgetRequests;
+        private long statements;
+        private int maxStatements;
+        private long entityLoads;
+        private long collectionLoads;
+        private String repeatedStatement;
+        private int repeatedCount;
+
+        synchronized void add(QueryStats stats, boolean overBudget, Map<String, Integer> repeated) {
+            requests++;
+            statements += stats.getStatements();
+            maxStatements = Math.max(maxStatements, stats.getStatements());
+            entityLoads += stats.getEntityLoads();
+            collectionLoads += stats.getCollectionLoads();
+            if (overBudget) {
+                overBudgetRequests++;
+            }
+            repeated.entrySet().stream().findFirst().ifPresent(worst -> {
+                if (worst.getValue() >= repeatedCount) {
+                    repeatedStatement = worst.getKey();
+                    repeatedCount = worst.getValue();
+                }
+            });
+        }
+
+        synchronized EndpointQueryStatsResponse toResponse(String endpoint) {
+            return new EndpointQueryStatsResponse(
+                    endpoint,
+                    requests,
+                    overBudgetRequests,
+                    requests == 0 ? 0 : (double) statements / requests,
+                    maxStatements,
+                    entityLoads,
+                    collectionLoads,
+                    repeatedStatement,
+                    repeatedCount
+            );
+        }
+    }
+}
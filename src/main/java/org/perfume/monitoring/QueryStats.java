@@ -0,0 +1,97 @@
+package org.perfume.monitoring;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QueryStats parent;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private int entityLoads;
+    private int collectionLoads;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        parent.statements += statements;
+        parent.entityLoads += entityLoads;
+        parent.collectionLoads += collectionLoads;
+        shapes.forEach((shape, count) -> parent.shapes.merge(shape, count, Integer::sum));
+        CURRENT.set(parent);
+    }
+
+    static void recordStatement(String sql) {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.shapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    static void recordEntityLoad() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void recordCollectionLoad() {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionLoads++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCollectionLoads() {
+        return collectionLoads;
+    }
+
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("(?)");
+    }
+}
@@ -0,0 +1,102 @@
+package org.perfume.monitoring;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TransactionMetricsListener implements TransactionExecutionListener {
+
+    private static final int MAX_DEPTH = 16;
+    private static final int COMMIT = 0;
+    private static final int ROLLBACK = 1;
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[MAX_DEPTH + 1]);
+
+    public TransactionMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction()) {
+            return;
+        }
+        long[] stack = starts.get();
+        int depth = (int) stack[0];
+        if (depth < MAX_DEPTH) {
+            stack[depth + 1] = clock.monotonicTime();
+        }
+        stack[0] = depth + 1;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        finish(transaction, commitFailure == null ? COMMIT : ROLLBACK);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        finish(transaction, ROLLBACK);
+    }
+
+    private void finish(TransactionExecution transaction, int outcome) {
+        if (!transaction.isNewTransaction()) {
+            return;
+        }
+        long[] stack = starts.get();
+        int depth = (int) stack[0];
+        if (depth == 0) {
+            return;
+        }
+        stack[0] = depth - 1;
+        if (depth > MAX_DEPTH) {
+            return;
+        }
+        long duration = clock.monotonicTime() - stack[depth];
+        timersFor(transaction)[outcome].record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] timersFor(TransactionExecution transaction) {
+        String name = transaction.getTransactionName() != null ? transaction.getTransactionName() : "";
+        Timer[] transactionTimers = timers.get(name);
+        if (transactionTimers == null) {
+            boolean readOnly = transaction.isReadOnly();
+            transactionTimers = timers.computeIfAbsent(name, key -> new Timer[]{
+                    timer(key, readOnly, "commit"),
+                    timer(key, readOnly, "rollback")
+            });
+        }
+        return transactionTimers;
+    }
+
+    private Timer timer(String name, boolean readOnly, String outcome) {
+        return Timer.builder("app.transaction.duration")
+                .description("Time from transaction begin to commit or rollback")
+                .tag("name", shortName(name))
+                .tag("read.only", String.valueOf(readOnly))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String shortName(String name) {
+        if (name.isEmpty()) {
+            return "programmatic";
+        }
+        int method = name.lastIndexOf('.');
+        int type = method > 0 ? name.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? name.substring(type + 1) : name;
+    }
+}
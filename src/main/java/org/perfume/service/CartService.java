@@ -1,6 +1,9 @@
 package org.perfume.service;
 
+import org.perfume.model.dto.request.CartBatchRequest;
 import org.perfume.model.dto.request.CartItemRequest;
+import org.perfume.model.dto.response.CartBadgeResponse;
+import org.perfume.model.dto.response.CartBatchResponse;
 import org.perfume.model.dto.response.CartItemResponse;
 import org.perfume.model.dto.response.CartItemSimpleResponse;
 import org.perfume.model.dto.response.CartResponse;
@@ -17,10 +20,14 @@ public interface CartService {
 
     CartResponse removeFromCart(Long userId, Long perfumeId);
 
+    CartBatchResponse applyBatch(Long userId, CartBatchRequest request);
+
     void clearCart(Long userId);
 
     Integer getTotalQuantity(Long userId);
 
+    CartBadgeResponse getCartBadge(Long userId);
+
     List<CartItemResponse> getUserCartItems(Long userId);
 
     List<MostAddedProductResponse> getMostAddedProducts();
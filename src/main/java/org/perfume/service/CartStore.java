@@ -0,0 +1,27 @@
+package org.perfume.service;
+
+import org.perfume.domain.view.CartBadgeView;
+import org.perfume.domain.view.CartState;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+public interface CartStore {
+    <T> T read(Long userId, Function<CartState, T> reader);
+
+    <T> T write(Long userId, Function<CartState, T> mutation);
+
+    CartBadgeView readBadge(Long userId);
+
+    void clear(Long userId);
+
+    void flush(Long userId);
+
+    void flushAll();
+
+    void evictPerfume(Long perfumeId);
+
+    void removePerfume(Long perfumeId);
+
+    void refreshStock(Collection<Long> perfumeIds);
+}
@@ -0,0 +1,14 @@
+package org.perfume.service;
+
+import org.perfume.model.dto.response.CatalogSyncResponse;
+import org.perfume.model.enums.CatalogEntityType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface CatalogSyncService {
+
+    CatalogSyncResponse getChanges(String version, LocalDateTime since, int limit);
+
+    void recordDeletions(CatalogEntityType entityType, Collection<Long> ids);
+}
@@ -1,5 +1,6 @@
 package org.perfume.service;
 
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.FavoriteResponse;
 import org.perfume.model.dto.response.MostAddedProductResponse;
 
@@ -7,7 +8,7 @@ import java.util.List;
 
 public interface FavoriteService {
 
-    List<FavoriteResponse> getUserFavorites(Long userId);
+    CursorPageResponse<FavoriteResponse> getUserFavorites(Long userId, String cursor, int size);
 
     FavoriteResponse addToFavorites(Long userId, Long perfumeId);
 
@@ -23,13 +24,13 @@ public interface FavoriteService {
 
     Long getProductFavoriteCount(Long perfumeId);
 
-    List<FavoriteResponse> getUserFavoritesByBrand(Long userId, Long brandId);
+    CursorPageResponse<FavoriteResponse> getUserFavoritesByBrand(Long userId, Long brandId, String cursor, int size);
 
     FavoriteResponse getFavoriteByUserAndPerfume(Long userId, Long perfumeId);
 
     FavoriteResponse getFavoriteById(Long favoriteId);
 
-    List<FavoriteResponse> getAllFavorites();
+    CursorPageResponse<FavoriteResponse> getAllFavorites(String cursor, int size);
 
     boolean toggleFavorite(Long userId, Long perfumeId);
 }
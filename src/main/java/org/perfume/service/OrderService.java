@@ -1,14 +1,21 @@
 package org.perfume.service;
 
 import org.perfume.model.dto.request.OrderRequest;
+import org.perfume.model.dto.request.OrderSearchRequest;
 import org.perfume.model.dto.response.CheckoutResponse;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.OrderItemResponse;
 import org.perfume.model.dto.response.OrderResponse;
+import org.perfume.model.dto.response.OrderSummaryResponse;
+import org.perfume.model.dto.response.TopCustomerResponse;
 import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.PhoneMatchMode;
+import org.perfume.model.enums.TopCustomerMetric;
 import org.springframework.data.domain.Page;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface OrderService {
@@ -25,20 +32,25 @@ public interface OrderService {
 
     List<OrderResponse> getOrdersByStatus(OrderStatus status);
 
-    List<OrderResponse> getOrdersByWhatsappNumber(String whatsappNumber);
+    CursorPageResponse<OrderSummaryResponse> getOrdersByWhatsappNumber(String whatsappNumber, PhoneMatchMode mode,
+                                                                      String cursor, int size);
 
     List<OrderResponse> getOrdersByMinAmount(BigDecimal minAmount);
 
     Page<OrderResponse> getLatestOrders(int page, int size);
 
+    CursorPageResponse<OrderSummaryResponse> searchOrders(OrderSearchRequest request);
+
     Optional<OrderResponse> getLatestUserOrder(Long userId);
 
-    List<Object[]> getTopCustomers(int limit);
+    List<TopCustomerResponse> getTopCustomers(int limit, TopCustomerMetric metric);
 
     BigDecimal getUserTotalSpent(Long userId);
 
     Long getOrderCountByStatus(OrderStatus status);
 
+    Map<OrderStatus, Long> getOrderCountsByStatus();
+
     List<OrderItemResponse> getOrderItems(Long orderId);
 
     List<OrderItemResponse> getProductSalesHistory(Long productId);
@@ -48,6 +48,8 @@ public interface PerfumeService {
 
     List<PerfumeResponse> getPopularPerfumes();
 
+    List<PerfumeResponse> getTrendingPerfumes(int windowMinutes, int limit);
+
     List<PerfumeResponse> getSimilarPerfumes(Long perfumeId);
 
     List<PerfumeResponse> getPerfumesWithFilters(ProductFilterRequest filterRequest);
@@ -1,9 +1,15 @@
 package org.perfume.service;
 
 import org.perfume.model.dto.request.RatingRequest;
+import org.perfume.model.dto.response.CursorPageResponse;
+import org.perfume.model.dto.response.RatingDistributionResponse;
+import org.perfume.model.dto.response.RatingFeedItemResponse;
 import org.perfume.model.dto.response.RatingResponse;
+import org.perfume.model.enums.RatingSort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface RatingService {
     RatingResponse addRating(Long userId, Long perfumeId, RatingRequest request);
@@ -14,11 +20,17 @@ public interface RatingService {
 
     List<RatingResponse> getPerfumeRatings(Long perfumeId);
 
+    CursorPageResponse<RatingFeedItemResponse> getPerfumeRatingFeed(Long perfumeId, RatingSort sort, String cursor, int size);
+
     List<RatingResponse> getUserRatings(Long userId);
 
     RatingResponse getUserRatingForPerfume(Long userId, Long perfumeId);
 
     boolean canUserRate(Long userId, Long perfumeId);
 
+    Set<Long> getRateablePerfumeIds(Long userId, Collection<Long> perfumeIds);
+
     void updatePerfumeRatingStats(Long perfumeId);
+
+    RatingDistributionResponse getRatingDistribution(Long perfumeId);
 }
\ No newline at end of file
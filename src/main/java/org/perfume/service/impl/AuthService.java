@@ -1,5 +1,6 @@
 package org.perfume.service.impl;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.perfume.domain.entity.User;
@@ -12,6 +13,7 @@ import org.perfume.model.dto.response.AuthResponse;
 import org.perfume.model.dto.response.MessageResponse;
 import org.perfume.model.dto.response.UserResponse;
 import org.perfume.model.enums.UserRole;
+import org.perfume.monitoring.AuthStageEvent;
 import org.perfume.security.JwtService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Random;
 
+@Timed
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -37,14 +40,22 @@ public class AuthService {
 
     @Transactional
     public MessageResponse register(RegisterRequest request) {
-        if (userService.existsByEmail(request.getEmail())) {
+        AuthStageEvent stage = AuthStageEvent.begin(AuthStageEvent.Flow.REGISTER, AuthStageEvent.Stage.CHECK_EMAIL);
+        boolean emailTaken = userService.existsByEmail(request.getEmail());
+        stage.finish(null, !emailTaken);
+
+        if (emailTaken) {
             throw new AlreadyExistsException("Email already exists: " + request.getEmail());
         }
 
+        stage = AuthStageEvent.begin(AuthStageEvent.Flow.REGISTER, AuthStageEvent.Stage.PASSWORD_HASH);
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        stage.finish(null);
+
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .phoneNumber(request.getPhoneNumber())
                 .role(UserRole.USER)
                 .isVerified(false)
@@ -55,18 +66,28 @@ public class AuthService {
         user.setVerificationCode(verificationCode);
         user.setVerificationCodeExpiresAt(LocalDateTime.now().plusMinutes(VERIFICATION_CODE_EXPIRY_MINUTES));
 
+        stage = AuthStageEvent.begin(AuthStageEvent.Flow.REGISTER, AuthStageEvent.Stage.SAVE_USER);
         User savedUser = userService.saveUser(user);
+        stage.finish(savedUser.getId());
 
+        stage = AuthStageEvent.begin(AuthStageEvent.Flow.REGISTER, AuthStageEvent.Stage.SEND_EMAIL);
         sendVerificationEmail(savedUser.getEmail(), savedUser.getName(), verificationCode);
+        stage.finish(savedUser.getId());
 
         log.info("User registered successfully with email: {}", request.getEmail());
         return MessageResponse.of("Registration successful. Please check your email for verification code.");
     }
 
     public AuthResponse login(LoginRequest request) {
+        AuthStageEvent stage = AuthStageEvent.begin(AuthStageEvent.Flow.LOGIN, AuthStageEvent.Stage.LOAD_USER);
         User user = userService.findUserByEmail(request.getEmail());
+        stage.finish(user.getId());
+
+        stage = AuthStageEvent.begin(AuthStageEvent.Flow.LOGIN, AuthStageEvent.Stage.PASSWORD_VERIFY);
+        boolean passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPassword());
+        stage.finish(user.getId(), passwordMatches);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordMatches) {
             throw new InvalidInputException("Invalid email or password");
         }
 
@@ -74,8 +95,10 @@ public class AuthService {
             throw new InvalidInputException("Please verify your email before logging in");
         }
 
+        stage = AuthStageEvent.begin(AuthStageEvent.Flow.LOGIN, AuthStageEvent.Stage.ISSUE_TOKEN);
         String token = jwtService.generateToken(user.getEmail());
         UserResponse userResponse = userMapper.toDto(user);
+        stage.finish(user.getId());
 
         return new AuthResponse(token, userResponse);
     }
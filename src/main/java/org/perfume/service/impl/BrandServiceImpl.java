@@ -12,6 +12,9 @@ import org.perfume.model.dto.request.BrandRequest;
 import org.perfume.model.dto.response.BrandResponse;
 import org.perfume.model.dto.response.PerfumeResponse;
 import org.perfume.model.dto.response.PerfumeSimpleResponse;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
+import org.perfume.service.CatalogSyncService;
 import org.perfume.service.BrandService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,9 @@ public class BrandServiceImpl implements BrandService {
     private final BrandMapper brandMapper;
     private final PerfumeDao perfumeDao;
     private final PerfumeMapper perfumeMapper;
+    private final CatalogSyncService catalogSyncService;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final PerfumeResponseCache perfumeResponseCache;
 
     @Override
     public BrandResponse save(BrandRequest request) {
@@ -35,8 +41,9 @@ public class BrandServiceImpl implements BrandService {
             throw new AlreadyExistsException("Brand with name " + request.getName() + " already exists");
         }
 
-        Brand brand = brandMapper.toEntity(request);
-        return brandMapper.toDto(brandDao.save(brand));
+        Brand brand = brandDao.save(brandMapper.toEntity(request));
+        catalogChangeFeed.publish(CatalogEntityType.BRAND, brand.getId(), CatalogChangeType.UPSERT);
+        return brandMapper.toDto(brand);
     }
 
     @Override
@@ -52,7 +59,10 @@ public class BrandServiceImpl implements BrandService {
         brand.setDescription(request.getDescription());
         brand.setLogoUrl(request.getLogoUrl());
 
-        return brandMapper.toDto(brandDao.save(brand));
+        Brand saved = brandDao.save(brand);
+        perfumeDao.findIdsByBrandId(id).forEach(perfumeResponseCache::invalidate);
+        catalogChangeFeed.publish(CatalogEntityType.BRAND, id, CatalogChangeType.UPSERT);
+        return brandMapper.toDto(saved);
     }
 
     @Override
@@ -60,7 +70,11 @@ public class BrandServiceImpl implements BrandService {
         if (!brandDao.existsById(id)) {
             throw new NotFoundException("Brand not found");
         }
+        List<Long> perfumeIds = perfumeDao.findIdsByBrandId(id);
         brandDao.deleteById(id);
+        catalogSyncService.recordDeletions(CatalogEntityType.PERFUME, perfumeIds);
+        perfumeIds.forEach(perfumeResponseCache::invalidate);
+        catalogSyncService.recordDeletions(CatalogEntityType.BRAND, List.of(id));
     }
 
     @Override
@@ -1,27 +1,35 @@
 package org.perfume.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.perfume.domain.entity.Cart;
 import org.perfume.domain.entity.CartItem;
 import org.perfume.domain.entity.Perfume;
-import org.perfume.domain.entity.User;
-import org.perfume.domain.repo.CartDao;
 import org.perfume.domain.repo.CartItemDao;
 import org.perfume.domain.repo.PerfumeDao;
-import org.perfume.domain.repo.UserDao;
+import org.perfume.domain.view.CartBadgeView;
+import org.perfume.domain.view.CartLineView;
+import org.perfume.domain.view.CartState;
 import org.perfume.exception.InvalidInputException;
 import org.perfume.exception.NotFoundException;
 import org.perfume.mapper.CartItemMapper;
 import org.perfume.mapper.CartMapper;
 import org.perfume.mapper.PerfumeMapper;
+import org.perfume.model.dto.request.CartBatchRequest;
 import org.perfume.model.dto.request.CartItemRequest;
+import org.perfume.model.dto.request.CartOperationRequest;
 import org.perfume.model.dto.response.*;
+import org.perfume.model.enums.CartOperationType;
+import org.perfume.monitoring.CartMutationEvent;
 import org.perfume.service.CartService;
+import org.perfume.service.CartStore;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,30 +37,24 @@ import java.util.stream.Collectors;
 @Transactional
 public class CartServiceImpl implements CartService {
 
-    private final CartDao cartDao;
+    private static final int MAX_BATCH_OPERATIONS = 100;
+
+    private final CartStore cartStore;
     private final CartItemDao cartItemDao;
-    private final UserDao userDao;
     private final CartMapper cartMapper;
     private final PerfumeDao perfumeDao;
     private final CartItemMapper cartItemMapper;
     private final PerfumeMapper perfumeMapper;
 
     @Override
-    @Transactional(readOnly = true)
     public CartResponse getUserCart(Long userId) {
+        CartResponse cart = cartStore.read(userId, cartMapper::toDto);
 
-        if (!userDao.existsById(userId)) {
-            throw new NotFoundException("User not found with id " + userId);
-        }
-
-        List<Cart> carts = cartDao.findByUserIdWithItems(userId);
-
-        if (carts.isEmpty()) {
-            Cart newCart = createCartForUser(userId);
-            return cartMapper.toDto(newCart);
+        if (cart.getId() == null) {
+            return cartStore.write(userId, cartMapper::toDto);
         }
 
-        return cartMapper.toDto(carts.get(0));
+        return cart;
     }
 
     @Override
@@ -60,124 +62,111 @@ public class CartServiceImpl implements CartService {
 
         validateCartItemRequest(request);
 
-        User user = userDao.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found with id " + userId));
-
-        Perfume perfume = perfumeDao.findById(request.getPerfumeId())
-                .orElseThrow(() -> new NotFoundException("Perfume not found with id " + request.getPerfumeId()));
-
-        if (perfume.getStockQuantity() < request.getQuantity() || perfume.getStockQuantity() == 0) {
-            throw new InvalidInputException("Insufficient stock for product: " + perfume.getName());
-        }
-
-        Cart cart = getOrCreateCart(user);
-
-        Optional<CartItem> cartOpt = cartItemDao.findByCartIdAndPerfumeId(cart.getId(), request.getPerfumeId());
-
-        if (cartOpt.isPresent()) {
-            CartItem cartItem = cartOpt.get();
-            int newQuantity = cartItem.getQuantity() + request.getQuantity();
-
-            if (newQuantity > perfume.getStockQuantity()) {
-                throw new InvalidInputException("Total quantity exceeds available stock");
-            }
+        CartMutationEvent event = CartMutationEvent.begin(CartMutationEvent.Operation.ADD, userId, request.getPerfumeId(), request.getQuantity());
+        Optional<Perfume> perfume = perfumeDao.findByIdWithBrandAndCategory(request.getPerfumeId());
+        CartResponse response = cartStore.write(userId, cart -> {
+            addLine(cart, request.getPerfumeId(), request.getQuantity(), perfumeId -> perfume);
+            return cartMapper.toDto(cart);
+        });
+        event.finish();
+        return response;
+    }
 
+    @Override
+    public CartResponse updateCartItem(Long userId, Long perfumeId, Integer quantity) {
 
-            cartItem.setQuantity(newQuantity);
-            cartItemDao.save(cartItem);
-        } else {
-            CartItem newItem = new CartItem();
+        validateQuantity(quantity);
 
-            newItem.setCart(cart);
-            newItem.setPerfume(perfume);
-            newItem.setQuantity(request.getQuantity());
-            cartItemDao.save(newItem);
-        }
+        CartMutationEvent event = CartMutationEvent.begin(CartMutationEvent.Operation.UPDATE, userId, perfumeId, quantity);
+        CartResponse response = cartStore.write(userId, cart -> {
+            updateLine(cart, perfumeId, quantity);
+            return cartMapper.toDto(cart);
+        });
+        event.finish();
+        return response;
+    }
 
-        return getUserCart(userId);
+    @Override
+    public CartResponse removeFromCart(Long userId, Long perfumeId) {
+        CartMutationEvent event = CartMutationEvent.begin(CartMutationEvent.Operation.REMOVE, userId, perfumeId, null);
+        CartResponse response = cartStore.write(userId, cart -> {
+            removeLine(cart, perfumeId);
+            return cartMapper.toDto(cart);
+        });
+        event.finish();
+        return response;
     }
 
     @Override
-    public CartResponse updateCartItem(Long userId, Long perfumeId, Integer quantity) {
+    public CartBatchResponse applyBatch(Long userId, CartBatchRequest request) {
+        List<CartOperationRequest> operations = request.getOperations();
 
-        if (quantity == null || quantity < 1) {
-            throw new InvalidInputException("Quantity must be at least 1");
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidInputException("At least one operation is required");
         }
 
-        Cart cart = getUserCartEntity(userId);
-
-        CartItem cartItem = cartItemDao.findByCartIdAndPerfumeId(cart.getId(), perfumeId)
-                .orElseThrow(() -> new NotFoundException("Product not found in cart"));
-
-        if (quantity > cartItem.getPerfume().getStockQuantity()) {
-            throw new InvalidInputException("Quantity exceeds available stock");
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new InvalidInputException("At most " + MAX_BATCH_OPERATIONS + " operations are allowed per batch");
         }
 
-        cartItem.setQuantity(quantity);
-        cartItemDao.save(cartItem);
+        CartMutationEvent event = CartMutationEvent.beginBatch(userId, operations.size());
 
-        return getUserCart(userId);
-    }
+        Set<Long> addedPerfumeIds = operations.stream()
+                .filter(operation -> operation.getType() == CartOperationType.ADD && operation.getPerfumeId() != null)
+                .map(CartOperationRequest::getPerfumeId)
+                .collect(Collectors.toSet());
 
-    @Override
-    public CartResponse removeFromCart(Long userId, Long perfumeId) {
-        if (!userDao.existsById(userId)) {
-            throw new NotFoundException("User not found with id " + userId);
-        }
+        Map<Long, Perfume> perfumes = addedPerfumeIds.isEmpty()
+                ? Map.of()
+                : perfumeDao.findAllWithBrandAndCategoryByIdIn(addedPerfumeIds).stream()
+                .collect(Collectors.toMap(Perfume::getId, Function.identity()));
 
-        Cart cart = cartDao.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("User not found with id " + userId));
+        CartBatchResponse response = cartStore.write(userId, cart -> {
+            List<CartOperationResultResponse> results = new ArrayList<>();
 
-        CartItem cartItem = cartItemDao.findByCartIdAndPerfumeId(cart.getId(), perfumeId)
-                .orElseThrow(() -> new NotFoundException("Perfume not found in cart"));
+            for (int i = 0; i < operations.size(); i++) {
+                CartOperationRequest operation = operations.get(i);
 
-        cartItemDao.delete(cartItem);
+                try {
+                    applyOperation(cart, operation, perfumes);
+                    results.add(new CartOperationResultResponse(i, operation.getType(), operation.getPerfumeId(), true, null));
+                } catch (InvalidInputException | NotFoundException e) {
+                    results.add(new CartOperationResultResponse(i, operation.getType(), operation.getPerfumeId(), false, e.getMessage()));
+                }
+            }
 
-        return getUserCart(userId);
+            return new CartBatchResponse(cartMapper.toDto(cart), results);
+        });
+        event.finish();
+        return response;
     }
 
     @Override
     public void clearCart(Long userId) {
-        if (!userDao.existsById(userId)) {
-            throw new NotFoundException("User not found with id " + userId);
-        }
-
-        Cart cart = cartDao.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("User not found with id " + userId));
-
-        List<CartItem> cartItems = cartItemDao.findByCartId(cart.getId());
-        if (!cartItems.isEmpty()) {
-            cartItemDao.deleteAll(cartItems);
-        }
+        CartMutationEvent event = CartMutationEvent.begin(CartMutationEvent.Operation.CLEAR, userId, null, null);
+        cartStore.clear(userId);
+        event.finish();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Integer getTotalQuantity(Long userId) {
-        if (!userDao.existsById(userId)) {
-            return 0;
-        }
-
-        Optional<Cart> cartOpt = cartDao.findByUserId(userId);
-        if (cartOpt.isEmpty()) {
-            return 0;
-        }
+        return cartStore.readBadge(userId).getItemCount();
+    }
 
-        Integer total = cartItemDao.getTotalQuantityByCartId(cartOpt.get().getId());
-        return total != null ? total : 0;
+    @Override
+    @Transactional(readOnly = true)
+    public CartBadgeResponse getCartBadge(Long userId) {
+        CartBadgeView badge = cartStore.readBadge(userId);
+        return new CartBadgeResponse(badge.getItemCount(), badge.getTotalPrice());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CartItemResponse> getUserCartItems(Long userId) {
-        if (!userDao.existsById(userId)) {
-            throw new NotFoundException("User not found with id " + userId);
-        }
-
-        List<CartItem> cartItems = cartItemDao.findByUserId(userId);
-        return cartItems.stream()
+        return cartStore.read(userId, cart -> cart.getLines().stream()
                 .map(cartItemMapper::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -227,40 +216,89 @@ public class CartServiceImpl implements CartService {
 
     }
 
-    private Cart createCartForUser(Long userId) {
-        User user = userDao.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found with id " + userId));
+    private void applyOperation(CartState cart, CartOperationRequest operation, Map<Long, Perfume> perfumes) {
+        if (operation.getType() == null) {
+            throw new InvalidInputException("Operation type is required");
+        }
 
-        Cart cart = new Cart();
-        cart.setUser(user);
-        return cartDao.save(cart);
+        if (operation.getPerfumeId() == null) {
+            throw new InvalidInputException("Product id is required");
+        }
+
+        switch (operation.getType()) {
+            case ADD -> {
+                validateQuantity(operation.getQuantity());
+                addLine(cart, operation.getPerfumeId(), operation.getQuantity(),
+                        perfumeId -> Optional.ofNullable(perfumes.get(perfumeId)));
+            }
+            case UPDATE -> {
+                validateQuantity(operation.getQuantity());
+                updateLine(cart, operation.getPerfumeId(), operation.getQuantity());
+            }
+            case REMOVE -> removeLine(cart, operation.getPerfumeId());
+        }
     }
 
-    private void validateCartItemRequest(CartItemRequest request) {
-        if (request.getPerfumeId() == null) {
-            throw new InvalidInputException("Product id is required");
+    private void addLine(CartState cart, Long perfumeId, int quantity, Function<Long, Optional<Perfume>> perfumeLookup) {
+        Optional<CartLineView> existing = cart.find(perfumeId);
+
+        if (existing.isPresent()) {
+            CartLineView line = existing.get();
+
+            if (line.getStockQuantity() < quantity || line.getStockQuantity() == 0) {
+                throw new InvalidInputException("Insufficient stock for product: " + line.getPerfumeName());
+            }
+
+            int newQuantity = line.getQuantity() + quantity;
+
+            if (newQuantity > line.getStockQuantity()) {
+                throw new InvalidInputException("Total quantity exceeds available stock");
+            }
+
+            cart.updateQuantity(perfumeId, newQuantity);
+            return;
         }
 
-        if (request.getQuantity() == null || request.getQuantity() < 1) {
-            throw new InvalidInputException("Quantity must be at least 1");
+        Perfume perfume = perfumeLookup.apply(perfumeId)
+                .orElseThrow(() -> new NotFoundException("Perfume not found with id " + perfumeId));
+
+        if (perfume.getStockQuantity() < quantity || perfume.getStockQuantity() == 0) {
+            throw new InvalidInputException("Insufficient stock for product: " + perfume.getName());
         }
+
+        cart.put(CartLineView.of(cart.getCartId(), quantity, perfume));
     }
 
-    private Cart getOrCreateCart(User user) {
-        Optional<Cart> cartOpt = cartDao.findByUserId(user.getId());
+    private void updateLine(CartState cart, Long perfumeId, Integer quantity) {
+        CartLineView line = cart.find(perfumeId)
+                .orElseThrow(() -> new NotFoundException("Product not found in cart"));
 
-        if (cartOpt.isPresent()) {
-            return cartOpt.get();
+        if (quantity > line.getStockQuantity()) {
+            throw new InvalidInputException("Quantity exceeds available stock");
         }
-        return createCartForUser(user.getId());
+
+        cart.updateQuantity(perfumeId, quantity);
     }
 
-    private Cart getUserCartEntity(Long userId) {
-        if (!userDao.existsById(userId)) {
-            throw new NotFoundException("User not found with id " + userId);
+    private void removeLine(CartState cart, Long perfumeId) {
+        if (cart.find(perfumeId).isEmpty()) {
+            throw new NotFoundException("Perfume not found in cart");
         }
 
-        return cartDao.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("Cart not found for user id " + userId));
+        cart.remove(perfumeId);
+    }
+
+    private void validateCartItemRequest(CartItemRequest request) {
+        if (request.getPerfumeId() == null) {
+            throw new InvalidInputException("Product id is required");
+        }
+
+        validateQuantity(request.getQuantity());
+    }
+
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity < 1) {
+            throw new InvalidInputException("Quantity must be at least 1");
+        }
     }
-}
\ No newline at end of file
+}
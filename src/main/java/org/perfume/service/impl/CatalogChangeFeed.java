@@ -0,0 +1,76 @@
+package org.perfume.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.model.dto.response.CatalogChangeEventResponse;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
+import org.perfume.util.TransactionCallbacks;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+public class CatalogChangeFeed {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60_000L;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    public void publish(CatalogEntityType entityType, Long id, CatalogChangeType changeType) {
+        CatalogChangeEventResponse event = new CatalogChangeEventResponse(entityType, id, changeType, LocalDateTime.now());
+        TransactionCallbacks.afterCommit(() -> dispatcher.execute(() -> broadcast(SseEmitter.event().name("catalog-change").data(event))));
+    }
+
+    public void publishAll(CatalogEntityType entityType, Collection<Long> ids, CatalogChangeType changeType) {
+        ids.forEach(id -> publish(entityType, id, changeType));
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void heartbeat() {
+        if (!emitters.isEmpty()) {
+            dispatcher.execute(() -> broadcast(SseEmitter.event().comment("keep-alive")));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping catalog change subscriber: {}", e.getMessage());
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.perfume.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.domain.entity.Brand;
+import org.perfume.domain.entity.CatalogTombstone;
+import org.perfume.domain.entity.Category;
+import org.perfume.domain.entity.Perfume;
+import org.perfume.domain.repo.BrandDao;
+import org.perfume.domain.repo.CatalogTombstoneDao;
+import org.perfume.domain.repo.CategoryDao;
+import org.perfume.domain.repo.PerfumeDao;
+import org.perfume.exception.InvalidInputException;
+import org.perfume.mapper.BrandMapper;
+import org.perfume.mapper.CategoryMapper;
+import org.perfume.mapper.PerfumeMapper;
+import org.perfume.model.dto.response.BrandResponse;
+import org.perfume.model.dto.response.CatalogDeletionResponse;
+import org.perfume.model.dto.response.CatalogSyncResponse;
+import org.perfume.model.dto.response.CategoryResponse;
+import org.perfume.model.dto.response.PerfumeResponse;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
+import org.perfume.service.CatalogSyncService;
+import org.perfume.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional
+public class CatalogSyncServiceImpl implements CatalogSyncService {
+
+    private static final int MAX_LIMIT = 1000;
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final CatalogTombstoneDao catalogTombstoneDao;
+    private final PerfumeDao perfumeDao;
+    private final BrandDao brandDao;
+    private final CategoryDao categoryDao;
+    private final PerfumeMapper perfumeMapper;
+    private final BrandMapper brandMapper;
+    private final CategoryMapper categoryMapper;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final long settleSeconds;
+    private final long tombstoneRetentionDays;
+
+    public CatalogSyncServiceImpl(CatalogTombstoneDao catalogTombstoneDao,
+                                  PerfumeDao perfumeDao,
+                                  BrandDao brandDao,
+                                  CategoryDao categoryDao,
+                                  PerfumeMapper perfumeMapper,
+                                  BrandMapper brandMapper,
+                                  CategoryMapper categoryMapper,
+                                  CatalogChangeFeed catalogChangeFeed,
+                                  @Value("${app.catalog.sync.settle-seconds:10}") long settleSeconds,
+                                  @Value("${app.catalog.sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.catalogTombstoneDao = catalogTombstoneDao;
+        this.perfumeDao = perfumeDao;
+        this.brandDao = brandDao;
+        this.categoryDao = categoryDao;
+        this.perfumeMapper = perfumeMapper;
+        this.brandMapper = brandMapper;
+        this.categoryMapper = categoryMapper;
+        this.catalogChangeFeed = catalogChangeFeed;
+        this.settleSeconds = settleSeconds;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogSyncResponse getChanges(String version, LocalDateTime since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        LocalDateTime afterChangedAt = since != null ? since : SYNC_START;
+        String afterType = "";
+        Long afterId = 0L;
+
+        if (version != null && !version.isBlank()) {
+            String[] parts = KeysetCursor.decode(version, 3);
+            try {
+                afterChangedAt = LocalDateTime.parse(parts[0]);
+                afterType = parts[1].isEmpty() ? "" : CatalogEntityType.valueOf(parts[1]).name();
+                afterId = Long.valueOf(parts[2]);
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid version");
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean incremental = afterChangedAt.isAfter(SYNC_START);
+        if (incremental && afterChangedAt.isBefore(now.minusDays(tombstoneRetentionDays))) {
+            return new CatalogSyncResponse(List.of(), List.of(), List.of(), List.of(), null, false, true);
+        }
+
+        List<Object[]> rows = catalogTombstoneDao.findChanges(afterChangedAt, afterType, afterId,
+                now.minusSeconds(settleSeconds), limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<Object[]> page = hasMore ? rows.subList(0, limit) : rows;
+
+        Map<CatalogEntityType, List<Long>> upserts = new EnumMap<>(CatalogEntityType.class);
+        List<CatalogDeletionResponse> deleted = new ArrayList<>();
+        String nextVersion = version != null && !version.isBlank()
+                ? version
+                : KeysetCursor.encode(afterChangedAt, afterType, afterId);
+
+        for (Object[] row : page) {
+            CatalogEntityType type = CatalogEntityType.valueOf((String) row[0]);
+            Long id = ((Number) row[1]).longValue();
+            LocalDateTime changedAt = toLocalDateTime(row[2]);
+
+            if (Boolean.TRUE.equals(row[3])) {
+                deleted.add(new CatalogDeletionResponse(type, id, changedAt));
+            } else {
+                upserts.computeIfAbsent(type, key -> new ArrayList<>()).add(id);
+            }
+            nextVersion = KeysetCursor.encode(changedAt, type.name(), id);
+        }
+
+        List<PerfumeResponse> perfumes = perfumeDao.findAllWithBrandAndCategoryByIdIn(ids(upserts, CatalogEntityType.PERFUME))
+                .stream()
+                .map(perfumeMapper::toDto)
+                .collect(Collectors.toList());
+
+        List<BrandResponse> brands = brandDao.findAllById(ids(upserts, CatalogEntityType.BRAND)).stream()
+                .map(brandMapper::toDto)
+                .collect(Collectors.toList());
+
+        List<CategoryResponse> categories = categoryDao.findAllById(ids(upserts, CatalogEntityType.CATEGORY)).stream()
+                .map(categoryMapper::toDto)
+                .collect(Collectors.toList());
+
+        return new CatalogSyncResponse(perfumes, brands, categories, deleted, nextVersion, hasMore, false);
+    }
+
+    @Override
+    public void recordDeletions(CatalogEntityType entityType, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        catalogTombstoneDao.saveAll(ids.stream()
+                .map(id -> new CatalogTombstone(entityType, id, deletedAt))
+                .collect(Collectors.toList()));
+        catalogChangeFeed.publishAll(entityType, ids, CatalogChangeType.DELETE);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeExpiredTombstones() {
+        int purged = catalogTombstoneDao.deleteByDeletedAtBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (purged > 0) {
+            log.info("Purged {} expired catalog tombstones", purged);
+        }
+    }
+
+    private List<Long> ids(Map<CatalogEntityType, List<Long>> upserts, CatalogEntityType type) {
+        return upserts.getOrDefault(type, Collections.emptyList());
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
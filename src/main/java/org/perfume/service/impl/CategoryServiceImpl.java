@@ -12,6 +12,9 @@ import org.perfume.model.dto.request.CategoryRequest;
 import org.perfume.model.dto.response.CategoryResponse;
 import org.perfume.model.dto.response.PerfumeResponse;
 import org.perfume.model.dto.response.PerfumeSimpleResponse;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
+import org.perfume.service.CatalogSyncService;
 import org.perfume.service.CategoryService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,9 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final PerfumeDao perfumeDao;
     private final PerfumeMapper perfumeMapper;
+    private final CatalogSyncService catalogSyncService;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final PerfumeResponseCache perfumeResponseCache;
 
     @Override
     public CategoryResponse save(CategoryRequest request) {
@@ -35,8 +41,9 @@ public class CategoryServiceImpl implements CategoryService {
             throw new AlreadyExistsException("Category with name " + request.getName() + " already exists");
         }
 
-        Category category = categoryMapper.toEntity(request);
-        return categoryMapper.toDto(categoryDao.save(category));
+        Category category = categoryDao.save(categoryMapper.toEntity(request));
+        catalogChangeFeed.publish(CatalogEntityType.CATEGORY, category.getId(), CatalogChangeType.UPSERT);
+        return categoryMapper.toDto(category);
     }
 
     @Override
@@ -50,7 +57,10 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setName(request.getName());
         category.setDescription(request.getDescription());
-        return categoryMapper.toDto(categoryDao.save(category));
+        Category saved = categoryDao.save(category);
+        perfumeDao.findIdsByCategoryId(id).forEach(perfumeResponseCache::invalidate);
+        catalogChangeFeed.publish(CatalogEntityType.CATEGORY, id, CatalogChangeType.UPSERT);
+        return categoryMapper.toDto(saved);
     }
 
     @Override
@@ -58,7 +68,11 @@ public class CategoryServiceImpl implements CategoryService {
         if (!categoryDao.existsById(id)) {
             throw new NotFoundException("Category with id " + id + " not found");
         }
+        List<Long> perfumeIds = perfumeDao.findIdsByCategoryId(id);
         categoryDao.deleteById(id);
+        catalogSyncService.recordDeletions(CatalogEntityType.PERFUME, perfumeIds);
+        perfumeIds.forEach(perfumeResponseCache::invalidate);
+        catalogSyncService.recordDeletions(CatalogEntityType.CATEGORY, List.of(id));
     }
 
 
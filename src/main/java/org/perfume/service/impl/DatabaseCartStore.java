@@ -0,0 +1,110 @@
+package org.perfume.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.perfume.domain.repo.CartDao;
+import org.perfume.domain.repo.CartItemBatchDao;
+import org.perfume.domain.repo.CartItemDao;
+import org.perfume.domain.repo.UserDao;
+import org.perfume.domain.view.CartBadgeView;
+import org.perfume.domain.view.CartLineView;
+import org.perfume.domain.view.CartState;
+import org.perfume.exception.NotFoundException;
+import org.perfume.service.CartStore;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class DatabaseCartStore implements CartStore {
+
+    private final CartDao cartDao;
+    private final CartItemDao cartItemDao;
+    private final CartItemBatchDao cartItemBatchDao;
+    private final UserDao userDao;
+
+    @Override
+    public <T> T read(Long userId, Function<CartState, T> reader) {
+        return reader.apply(load(userId));
+    }
+
+    @Override
+    public <T> T write(Long userId, Function<CartState, T> mutation) {
+        Long cartId = cartDao.lockIdByUserId(userId).orElseGet(() -> createCart(userId));
+        CartState state = load(userId);
+        state.setCartId(cartId);
+
+        T result = mutation.apply(state);
+        if (state.hasPendingChanges()) {
+            persist(List.of(state.drainChanges()));
+        }
+        return result;
+    }
+
+    @Override
+    public CartBadgeView readBadge(Long userId) {
+        return cartDao.findBadgeByUserId(userId).orElse(CartBadgeView.EMPTY);
+    }
+
+    @Override
+    public void clear(Long userId) {
+        cartItemDao.deleteByUserId(userId);
+        cartDao.resetTotals(userId);
+    }
+
+    @Override
+    public void flush(Long userId) {
+    }
+
+    @Override
+    public void flushAll() {
+    }
+
+    @Override
+    public void evictPerfume(Long perfumeId) {
+        List<Long> cartIds = cartItemDao.findCartIdsByPerfumeId(perfumeId);
+        if (!cartIds.isEmpty()) {
+            cartDao.recalculateTotals(cartIds);
+        }
+    }
+
+    @Override
+    public void removePerfume(Long perfumeId) {
+        List<Long> cartIds = cartItemDao.findCartIdsByPerfumeId(perfumeId);
+        if (!cartIds.isEmpty()) {
+            cartItemDao.deleteByPerfumeId(perfumeId);
+            cartDao.recalculateTotals(cartIds);
+        }
+    }
+
+    @Override
+    public void refreshStock(Collection<Long> perfumeIds) {
+    }
+
+    public CartState load(Long userId) {
+        List<CartLineView> rows = cartDao.findCartLines(userId);
+        CartState state = new CartState(rows.isEmpty() ? null : rows.get(0).getCartId());
+
+        rows.stream()
+                .filter(row -> row.getItemId() != null)
+                .forEach(state::attach);
+
+        return state;
+    }
+
+    public Long createCart(Long userId) {
+        if (!userDao.existsById(userId)) {
+            throw new NotFoundException("User not found with id " + userId);
+        }
+
+        cartDao.insertIfAbsent(userId);
+        return cartDao.lockIdByUserId(userId)
+                .orElseThrow(() -> new NotFoundException("Cart not found for user id " + userId));
+    }
+
+    public void persist(Collection<CartState.Changes> changes) {
+        cartItemBatchDao.apply(changes);
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -72,4 +74,33 @@ public class EmailService {
 
         sendEmail(to, subject, body);
     }
+
+    public void sendPriceDropEmail(String to, String name, String perfumeName, Integer discountPercent, BigDecimal discountedPrice) {
+        String subject = "Price drop on " + perfumeName;
+        String body = String.format(
+                "Dear %s,\n\n" +
+                        "Good news! %s from your favorites is now %d%% off.\n\n" +
+                        "New price: $%s\n\n" +
+                        "Grab it before the offer ends!\n\n" +
+                        "Best regards,\n" +
+                        "Perfume Shop Team",
+                name, perfumeName, discountPercent, discountedPrice
+        );
+
+        sendEmail(to, subject, body);
+    }
+
+    public void sendBackInStockEmail(String to, String name, String perfumeName) {
+        String subject = perfumeName + " is back in stock";
+        String body = String.format(
+                "Dear %s,\n\n" +
+                        "%s from your favorites is back in stock.\n\n" +
+                        "Order now while supplies last!\n\n" +
+                        "Best regards,\n" +
+                        "Perfume Shop Team",
+                name, perfumeName
+        );
+
+        sendEmail(to, subject, body);
+    }
 }
\ No newline at end of file
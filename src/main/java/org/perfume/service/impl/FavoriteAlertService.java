@@ -0,0 +1,197 @@
+package org.perfume.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.domain.entity.FavoriteAlert;
+import org.perfume.domain.entity.Perfume;
+import org.perfume.domain.repo.FavoriteAlertDao;
+import org.perfume.domain.repo.FavoriteDao;
+import org.perfume.domain.repo.FavoriteNotificationBatchDao;
+import org.perfume.domain.repo.FavoriteNotificationDao;
+import org.perfume.domain.repo.PerfumeDao;
+import org.perfume.domain.view.FavoriteNotificationView;
+import org.perfume.model.enums.FavoriteAlertType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class FavoriteAlertService {
+
+    private static final int MAX_ALERTS_PER_RUN = 50;
+
+    private final FavoriteAlertDao favoriteAlertDao;
+    private final FavoriteDao favoriteDao;
+    private final FavoriteNotificationDao favoriteNotificationDao;
+    private final FavoriteNotificationBatchDao favoriteNotificationBatchDao;
+    private final PerfumeDao perfumeDao;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long coalesceSeconds;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long resendAfterHours;
+    private final double sendRatePerSecond;
+    private final int maxAttempts;
+
+    private double sendTokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    public FavoriteAlertService(FavoriteAlertDao favoriteAlertDao,
+                                FavoriteDao favoriteDao,
+                                FavoriteNotificationDao favoriteNotificationDao,
+                                FavoriteNotificationBatchDao favoriteNotificationBatchDao,
+                                PerfumeDao perfumeDao,
+                                EmailService emailService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.notifications.favorites.coalesce-seconds:60}") long coalesceSeconds,
+                                @Value("${app.notifications.favorites.batch-size:1000}") int batchSize,
+                                @Value("${app.notifications.favorites.max-batches-per-run:20}") int maxBatchesPerRun,
+                                @Value("${app.notifications.favorites.resend-after-hours:24}") long resendAfterHours,
+                                @Value("${app.notifications.favorites.send-rate-per-second:20}") double sendRatePerSecond,
+                                @Value("${app.notifications.favorites.max-attempts:5}") int maxAttempts) {
+        this.favoriteAlertDao = favoriteAlertDao;
+        this.favoriteDao = favoriteDao;
+        this.favoriteNotificationDao = favoriteNotificationDao;
+        this.favoriteNotificationBatchDao = favoriteNotificationBatchDao;
+        this.perfumeDao = perfumeDao;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalesceSeconds = coalesceSeconds;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.resendAfterHours = resendAfterHours;
+        this.sendRatePerSecond = sendRatePerSecond;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void priceDropped(Long perfumeId) {
+        schedule(perfumeId, FavoriteAlertType.PRICE_DROP);
+    }
+
+    public void backInStock(Long perfumeId) {
+        schedule(perfumeId, FavoriteAlertType.BACK_IN_STOCK);
+    }
+
+    public void perfumeDeleted(Long perfumeId) {
+        favoriteAlertDao.deleteByPerfumeId(perfumeId);
+        favoriteNotificationDao.deleteByPerfumeId(perfumeId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.favorites.fan-out-interval-ms:5000}")
+    public void fanOutDueAlerts() {
+        List<Long> alertIds = favoriteAlertDao.findDueIds(LocalDateTime.now(), PageRequest.of(0, MAX_ALERTS_PER_RUN));
+
+        int batches = 0;
+        for (Long alertId : alertIds) {
+            try {
+                while (batches < maxBatchesPerRun && Boolean.TRUE.equals(transactionTemplate.execute(status -> fanOutBatch(alertId)))) {
+                    batches++;
+                }
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("Favorite alert {} was rescheduled during fan-out", alertId);
+            }
+
+            if (batches >= maxBatchesPerRun) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.favorites.drain-interval-ms:1000}")
+    public void drainNotifications() {
+        long now = System.nanoTime();
+        sendTokens = Math.min(sendRatePerSecond, sendTokens + (now - lastRefillNanos) / 1_000_000_000.0 * sendRatePerSecond);
+        lastRefillNanos = now;
+
+        int budget = (int) sendTokens;
+        if (budget < 1) {
+            return;
+        }
+
+        List<FavoriteNotificationView> pending = favoriteNotificationDao.findPending(maxAttempts, PageRequest.of(0, budget));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> sent = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (FavoriteNotificationView notification : pending) {
+            try {
+                send(notification);
+                sent.add(notification.getId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to send {} notification {}", notification.getType(), notification.getId(), e);
+                failed.add(notification.getId());
+            }
+        }
+        sendTokens -= pending.size();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                favoriteNotificationDao.markSent(sent, LocalDateTime.now());
+            }
+            if (!failed.isEmpty()) {
+                favoriteNotificationDao.markFailed(failed);
+            }
+        });
+    }
+
+    private void schedule(Long perfumeId, FavoriteAlertType type) {
+        favoriteAlertDao.schedule(perfumeId, type.name(), LocalDateTime.now().plusSeconds(coalesceSeconds));
+    }
+
+    private boolean fanOutBatch(Long alertId) {
+        FavoriteAlert alert = favoriteAlertDao.findById(alertId).orElse(null);
+        if (alert == null || alert.getDueAt().isAfter(LocalDateTime.now())) {
+            return false;
+        }
+
+        Perfume perfume = perfumeDao.findById(alert.getPerfumeId()).orElse(null);
+        if (perfume == null || !stillApplies(alert.getType(), perfume)) {
+            favoriteAlertDao.delete(alert);
+            return false;
+        }
+
+        List<Long> userIds = favoriteDao.findUserIdsByPerfumeIdAfter(
+                alert.getPerfumeId(), alert.getLastUserId(), PageRequest.of(0, batchSize));
+
+        favoriteNotificationBatchDao.enqueue(userIds, alert.getPerfumeId(), alert.getType(),
+                perfume.getDiscountPercent(), LocalDateTime.now().minusHours(resendAfterHours));
+
+        if (userIds.size() < batchSize) {
+            favoriteAlertDao.delete(alert);
+            return false;
+        }
+
+        alert.setLastUserId(userIds.get(userIds.size() - 1));
+        alert.setUpdatedAt(LocalDateTime.now());
+        return true;
+    }
+
+    private boolean stillApplies(FavoriteAlertType type, Perfume perfume) {
+        return switch (type) {
+            case PRICE_DROP -> perfume.getDiscountPercent() != null && perfume.getDiscountPercent() > 0;
+            case BACK_IN_STOCK -> perfume.getStockQuantity() != null && perfume.getStockQuantity() > 0;
+        };
+    }
+
+    private void send(FavoriteNotificationView notification) {
+        switch (notification.getType()) {
+            case PRICE_DROP -> emailService.sendPriceDropEmail(notification.getEmail(), notification.getUserName(),
+                    notification.getPerfumeName(), notification.getDiscountPercent(),
+                    Perfume.calculateDiscountedPrice(notification.getPrice(), notification.getDiscountPercent()));
+            case BACK_IN_STOCK -> emailService.sendBackInStockEmail(notification.getEmail(), notification.getUserName(),
+                    notification.getPerfumeName());
+        }
+    }
+}
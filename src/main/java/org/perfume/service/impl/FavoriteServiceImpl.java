@@ -1,24 +1,33 @@
 package org.perfume.service.impl;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.perfume.domain.entity.Favorite;
 import org.perfume.domain.entity.Perfume;
-import org.perfume.domain.entity.User;
 import org.perfume.domain.repo.FavoriteDao;
 import org.perfume.domain.repo.PerfumeDao;
 import org.perfume.domain.repo.UserDao;
+import org.perfume.domain.view.FavoriteView;
 import org.perfume.exception.AlreadyExistsException;
+import org.perfume.exception.InvalidInputException;
 import org.perfume.exception.NotFoundException;
 import org.perfume.mapper.FavoriteMapper;
 import org.perfume.mapper.PerfumeMapper;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.FavoriteResponse;
 import org.perfume.model.dto.response.MostAddedProductResponse;
 import org.perfume.model.dto.response.MostPerfumesResponse;
 import org.perfume.service.FavoriteService;
+import org.perfume.util.KeysetCursor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,65 +35,55 @@ import java.util.stream.Collectors;
 @Transactional
 public class FavoriteServiceImpl implements FavoriteService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime PAGE_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final FavoriteDao favoriteDao;
     private final UserDao userDao;
     private final PerfumeDao perfumeDao;
     private final FavoriteMapper favoriteMapper;
     private final PerfumeMapper perfumeMapper;
+    private final UserRelationshipCache userRelationshipCache;
 
 
     @Override
     @Transactional(readOnly = true)
-    public List<FavoriteResponse> getUserFavorites(Long userId) {
+    public CursorPageResponse<FavoriteResponse> getUserFavorites(Long userId, String cursor, int size) {
         if (!userDao.existsById(userId)) {
             throw new NotFoundException("User not found with ID: " + userId);
         }
 
-        List<Favorite> favorites = favoriteDao.findByUserIdOrderByCreatedAtDesc(userId);
-        return favorites.stream()
-                .map(favoriteMapper::toDto)
-                .collect(Collectors.toList());
+        return readPage(cursor, size,
+                (after, limit) -> favoriteDao.findUserFavoritePage(userId, after.getCreatedAt(), after.getId(), limit));
     }
 
     @Override
     public FavoriteResponse addToFavorites(Long userId, Long perfumeId) {
-        User user = userDao.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId));
-
-        Perfume perfume = perfumeDao.findById(perfumeId)
-                .orElseThrow(() -> new NotFoundException("Perfume not found with ID: " + perfumeId));
-
-        if (favoriteDao.existsByUserIdAndPerfumeId(userId, perfumeId)) {
+        if (favoriteDao.insertIfAbsent(userId, perfumeId) == 0) {
+            checkUserAndPerfumeExist(userId, perfumeId);
             throw new AlreadyExistsException("This perfume is already in favorites");
         }
 
-        Favorite favorite = new Favorite();
-        favorite.setUser(user);
-        favorite.setPerfume(perfume);
-        Favorite savedFavorite = favoriteDao.save(favorite);
+        userRelationshipCache.favoriteAdded(userId, perfumeId);
+
+        Favorite savedFavorite = favoriteDao.findByUserIdAndPerfumeId(userId, perfumeId)
+                .orElseThrow(() -> new NotFoundException("Favorite not found"));
         return favoriteMapper.toDto(savedFavorite);
     }
 
     @Override
     public void removeFromFavorites(Long userId, Long perfumeId) {
-        if (!userDao.existsById(userId)) {
-            throw new NotFoundException("User not found with ID: " + userId);
-        }
-
-        if (!perfumeDao.existsById(perfumeId)) {
-            throw new NotFoundException("Perfume not found with ID: " + perfumeId);
-        }
-
-        if (!favoriteDao.existsByUserIdAndPerfumeId(userId, perfumeId)) {
+        if (favoriteDao.deleteFavorite(userId, perfumeId) == 0) {
+            checkUserAndPerfumeExist(userId, perfumeId);
             throw new NotFoundException("This perfume is not in favorites");
         }
 
-        favoriteDao.deleteByUserIdAndPerfumeId(userId, perfumeId);
+        userRelationshipCache.favoriteRemoved(userId, perfumeId);
     }
 
     @Override
     public boolean isProductInFavorites(Long userId, Long perfumeId) {
-        return favoriteDao.existsByUserIdAndPerfumeId(userId, perfumeId);
+        return userRelationshipCache.isFavorite(userId, perfumeId);
     }
 
     @Override
@@ -147,15 +146,13 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<FavoriteResponse> getUserFavoritesByBrand(Long userId, Long brandId) {
+    public CursorPageResponse<FavoriteResponse> getUserFavoritesByBrand(Long userId, Long brandId, String cursor, int size) {
         if (!userDao.existsById(userId)) {
             throw new NotFoundException("User not found with ID: " + userId);
         }
 
-        List<Favorite> favorites = favoriteDao.findUserFavoritesByBrand(userId, brandId);
-        return favorites.stream()
-                .map(favoriteMapper::toDto)
-                .collect(Collectors.toList());
+        return readPage(cursor, size,
+                (after, limit) -> favoriteDao.findUserFavoritePageByBrand(userId, brandId, after.getCreatedAt(), after.getId(), limit));
     }
 
     @Override
@@ -178,22 +175,70 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<FavoriteResponse> getAllFavorites() {
-        List<Favorite> favorites = favoriteDao.findAll();
-
-        return favorites.stream()
-                .map(favoriteMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<FavoriteResponse> getAllFavorites(String cursor, int size) {
+        return readPage(cursor, size,
+                (after, limit) -> favoriteDao.findFavoritePage(after.getCreatedAt(), after.getId(), limit));
     }
 
     @Override
     public boolean toggleFavorite(Long userId, Long perfumeId) {
-        if (favoriteDao.existsByUserIdAndPerfumeId(userId, perfumeId)) {
-            removeFromFavorites(userId, perfumeId);
-            return true;
+        boolean isFavorite;
+        try {
+            isFavorite = favoriteDao.toggleFavorite(userId, perfumeId) == 0;
+        } catch (DataIntegrityViolationException e) {
+            throw new NotFoundException("User or perfume not found");
+        }
+
+        if (isFavorite) {
+            userRelationshipCache.favoriteAdded(userId, perfumeId);
         } else {
-            addToFavorites(userId, perfumeId);
-            return false;
+            userRelationshipCache.favoriteRemoved(userId, perfumeId);
+        }
+
+        return isFavorite;
+    }
+
+    private CursorPageResponse<FavoriteResponse> readPage(String cursor, int size,
+                                                          BiFunction<PageAnchor, Pageable, List<FavoriteView>> query) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        PageAnchor after = new PageAnchor(PAGE_START, Long.MAX_VALUE);
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            try {
+                after = new PageAnchor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+        }
+
+        List<FavoriteView> rows = query.apply(after, PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<FavoriteView> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            FavoriteView last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getFavoriteId());
+        }
+
+        List<FavoriteResponse> content = page.stream()
+                .map(favoriteMapper::toDto)
+                .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
+    private void checkUserAndPerfumeExist(Long userId, Long perfumeId) {
+        if (!userDao.existsById(userId)) {
+            throw new NotFoundException("User not found with ID: " + userId);
+        }
+
+        if (!perfumeDao.existsById(perfumeId)) {
+            throw new NotFoundException("Perfume not found with ID: " + perfumeId);
         }
     }
 
@@ -208,4 +253,11 @@ public class FavoriteServiceImpl implements FavoriteService {
             return "Not Popular";
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PageAnchor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+    }
+}
@@ -0,0 +1,137 @@
+package org.perfume.service.impl;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.exception.AlreadyExistsException;
+import org.perfume.exception.InvalidInputException;
+import org.perfume.exception.NotFoundException;
+import org.perfume.model.dto.response.RecordingStatusResponse;
+import org.perfume.monitoring.AuthStageEvent;
+import org.perfume.monitoring.CartMutationEvent;
+import org.perfume.monitoring.CheckoutStageEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@Slf4j
+public class FlightRecorderService {
+
+    private static final String RECORDING_NAME = "perfume-shop-diagnostics";
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS =
+            List.of(CheckoutStageEvent.class, AuthStageEvent.class, CartMutationEvent.class);
+
+    private final long maxDurationMinutes;
+    private final long maxSizeMb;
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${app.diagnostics.jfr.max-duration-minutes:30}") long maxDurationMinutes,
+                                 @Value("${app.diagnostics.jfr.max-size-mb:256}") long maxSizeMb) {
+        this.maxDurationMinutes = maxDurationMinutes;
+        this.maxSizeMb = maxSizeMb;
+    }
+
+    public synchronized RecordingStatusResponse start(long durationMinutes, long sizeMb) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new AlreadyExistsException("A flight recording is already running");
+        }
+        if (durationMinutes < 1 || durationMinutes > maxDurationMinutes) {
+            throw new InvalidInputException("Recording duration must be between 1 and " + maxDurationMinutes + " minutes");
+        }
+        if (sizeMb < 1 || sizeMb > maxSizeMb) {
+            throw new InvalidInputException("Recording size must be between 1 and " + maxSizeMb + " MB");
+        }
+
+        close();
+
+        Recording newRecording = new Recording(defaultConfiguration());
+        APPLICATION_EVENTS.forEach(newRecording::enable);
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setDuration(Duration.ofMinutes(durationMinutes));
+        newRecording.setMaxAge(Duration.ofMinutes(durationMinutes));
+        newRecording.setMaxSize(sizeMb * BYTES_PER_MB);
+        newRecording.start();
+        recording = newRecording;
+
+        log.info("Started flight recording {} for {} minutes, up to {} MB", recording.getId(), durationMinutes, sizeMb);
+        return toResponse(recording);
+    }
+
+    public synchronized RecordingStatusResponse stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new InvalidInputException("No flight recording is running");
+        }
+
+        recording.stop();
+        log.info("Stopped flight recording {}", recording.getId());
+        return toResponse(recording);
+    }
+
+    public synchronized RecordingStatusResponse getStatus() {
+        return toResponse(currentRecording());
+    }
+
+    public synchronized void requireRecording() {
+        currentRecording();
+    }
+
+    public void dump(OutputStream outputStream) throws IOException {
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        try {
+            synchronized (this) {
+                currentRecording().dump(file);
+            }
+            Files.copy(file, outputStream);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Recording currentRecording() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new NotFoundException("No flight recording has been started");
+        }
+        return recording;
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Configuration defaultConfiguration() {
+        try {
+            return Configuration.getConfiguration("default");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load the default flight recorder configuration", e);
+        }
+    }
+
+    private RecordingStatusResponse toResponse(Recording current) {
+        Duration duration = current.getDuration();
+        return new RecordingStatusResponse(
+                current.getId(),
+                current.getName(),
+                current.getState().name(),
+                current.getStartTime(),
+                current.getStopTime(),
+                duration != null ? duration.toSeconds() : null,
+                current.getMaxSize(),
+                current.getSize()
+        );
+    }
+}
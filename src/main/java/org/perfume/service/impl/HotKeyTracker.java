@@ -0,0 +1,87 @@
+package org.perfume.service.impl;
+
+import org.perfume.exception.InvalidInputException;
+import org.perfume.model.dto.response.HotKeyResponse;
+import org.perfume.model.dto.response.HotKeysResponse;
+import org.perfume.util.SlidingHeavyHitters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Component
+public class HotKeyTracker {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_SEARCH_TERM_LENGTH = 64;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SlidingHeavyHitters<Long> products;
+    private final SlidingHeavyHitters<String> searches;
+
+    public HotKeyTracker(@Value("${app.catalog.hot-keys.window-minutes:60}") int windowMinutes,
+                         @Value("${app.catalog.hot-keys.capacity:500}") int capacity) {
+        this.products = new SlidingHeavyHitters<>(windowMinutes, Duration.ofMinutes(1), capacity);
+        this.searches = new SlidingHeavyHitters<>(windowMinutes, Duration.ofMinutes(1), capacity);
+    }
+
+    public void recordProductView(Long perfumeId) {
+        if (perfumeId != null) {
+            products.offer(perfumeId);
+        }
+    }
+
+    public void recordSearch(String term) {
+        if (term == null) {
+            return;
+        }
+
+        String normalized = WHITESPACE.matcher(term.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        if (normalized.length() > MAX_SEARCH_TERM_LENGTH) {
+            normalized = normalized.substring(0, MAX_SEARCH_TERM_LENGTH);
+        }
+        searches.offer(normalized);
+    }
+
+    public List<Long> getHotProductIds(int windowMinutes, int limit) {
+        validate(windowMinutes, limit);
+        return products.top(windowMinutes, limit).stream()
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public boolean supports(int windowMinutes, int limit) {
+        return windowMinutes >= 1 && windowMinutes <= products.getSlotCount() && limit >= 1 && limit <= MAX_LIMIT;
+    }
+
+    public HotKeysResponse getHotKeys(int windowMinutes, int limit) {
+        validate(windowMinutes, limit);
+        return new HotKeysResponse(
+                windowMinutes,
+                toResponse(products.top(windowMinutes, limit)),
+                toResponse(searches.top(windowMinutes, limit))
+        );
+    }
+
+    private <K> List<HotKeyResponse> toResponse(List<Map.Entry<K, Long>> entries) {
+        return entries.stream()
+                .map(entry -> new HotKeyResponse(String.valueOf(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    private void validate(int windowMinutes, int limit) {
+        if (windowMinutes < 1 || windowMinutes > products.getSlotCount()) {
+            throw new InvalidInputException("Window must be between 1 and " + products.getSlotCount() + " minutes");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.perfume.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.monitoring.CheckoutStageEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class OrderConfirmationMailer {
+
+    private final EmailService emailService;
+    private final ExecutorService executor;
+
+    public OrderConfirmationMailer(EmailService emailService,
+                                   @Value("${app.orders.confirmation-email.threads:2}") int threads,
+                                   @Value("${app.orders.confirmation-email.queue-capacity:1000}") int queueCapacity) {
+        this.emailService = emailService;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-confirmation-mail-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public void send(Long userId, String email, Long orderId, String orderDetails, int cartItems) {
+        executor.execute(() -> {
+            CheckoutStageEvent stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.SEND_EMAIL, userId);
+            try {
+                emailService.sendOrderConfirmationEmail(email, orderId.toString(), orderDetails);
+                log.info("Order confirmation email sent to: {}", email);
+            } catch (Exception e) {
+                log.error("Failed to send order confirmation email to: {}", email, e);
+            }
+            stage.finish(orderId, cartItems);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
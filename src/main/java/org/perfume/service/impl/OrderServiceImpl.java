@@ -9,24 +9,42 @@ import org.perfume.exception.NotFoundException;
 import org.perfume.mapper.OrderItemMapper;
 import org.perfume.mapper.OrderMapper;
 import org.perfume.model.dto.request.OrderRequest;
+import org.perfume.model.dto.request.OrderSearchRequest;
 import org.perfume.model.dto.response.CheckoutResponse;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.OrderItemResponse;
 import org.perfume.model.dto.response.OrderResponse;
+import org.perfume.model.dto.response.OrderSummaryResponse;
+import org.perfume.model.dto.response.TopCustomerResponse;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
 import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.PhoneMatchMode;
+import org.perfume.model.enums.TopCustomerMetric;
+import org.perfume.monitoring.CheckoutStageEvent;
 import org.perfume.service.CartService;
+import org.perfume.service.CartStore;
 import org.perfume.service.OrderService;
+import org.perfume.util.KeysetCursor;
+import org.perfume.util.PhoneNumbers;
+import org.perfume.util.TransactionCallbacks;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -40,12 +58,25 @@ public class OrderServiceImpl implements OrderService {
     private final OrderDao orderDao;
     private final OrderItemDao orderItemDao;
     private final CartService cartService;
+    private final CartStore cartStore;
     private final CartItemDao cartItemDao;
     private final UserDao userDao;
     private final PerfumeDao perfumeDao;
     private final OrderMapper orderMapper;
-    private final EmailService emailService;
+    private final OrderConfirmationMailer orderConfirmationMailer;
     private final OrderItemMapper orderItemMapper;
+    private final RatingEligibilityDao ratingEligibilityDao;
+    private final UserRelationshipCache userRelationshipCache;
+    private final PerfumeResponseCache perfumeResponseCache;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final OrderSearchDao orderSearchDao;
+    private final CustomerStatsDao customerStatsDao;
+    private final OrderStatusCounterDao orderStatusCounterDao;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MIN_PHONE_SUFFIX_DIGITS = 4;
+    private static final int MIN_PHONE_PARTIAL_DIGITS = 3;
+    private static final LocalDateTime SEARCH_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     @Value("${app.whatsapp.business-number:994775099979}")
     private String businessWhatsappNumber;
@@ -54,36 +85,47 @@ public class OrderServiceImpl implements OrderService {
         User user = userDao.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + userId));
 
+        CheckoutStageEvent stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.LOAD_CART, userId);
+        cartStore.flush(userId);
         List<CartItem> cartItems = cartItemDao.findByUserId(userId);
+        stage.finish(cartItems.size());
 
         if (cartItems.isEmpty()) {
             throw new InvalidInputException("Cart is empty");
         }
 
+        stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.VALIDATE_STOCK, userId);
         validateStockAvailability(cartItems);
+        stage.finish(cartItems.size());
 
+        stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.INSERT_ORDER, userId);
         Order order = createOrderWithItems(user, orderRequest, cartItems);
+        stage.finish(order.getId(), cartItems.size());
 
         String whatsappMessage = createWhatsAppMessage(order);
         String whatsappLink = createWhatsAppLink(whatsappMessage);
 
-        try {
-            String orderDetails = createOrderDetailsForEmail(order);
-            emailService.sendOrderConfirmationEmail(
-                    user.getEmail(),
-                    order.getId().toString(),
-                    orderDetails
-            );
-            log.info("Order confirmation email sent to: {}", user.getEmail());
-        } catch (Exception e) {
-            log.error("Failed to send order confirmation email to: {}", user.getEmail(), e);
-        }
+        String orderDetails = createOrderDetailsForEmail(order);
+        TransactionCallbacks.afterCommit(() -> orderConfirmationMailer.send(
+                userId, user.getEmail(), order.getId(), orderDetails, cartItems.size()));
 
+        stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.CLEAR_CART, userId);
         cartService.clearCart(userId);
+        stage.finish(order.getId(), cartItems.size());
+
+        stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.UPDATE_STOCK, userId);
         updateProductStock(cartItems);
+        stage.finish(order.getId(), cartItems.size());
 
+        stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.BUILD_RESPONSE, userId);
         Order savedOrderWithItems = orderDao.findByIdWithItems(order.getId());
         OrderResponse orderResponse = orderMapper.toDto(savedOrderWithItems);
+        stage.finish(order.getId(), cartItems.size());
+
+        stage = CheckoutStageEvent.begin(CheckoutStageEvent.Stage.UPDATE_COUNTERS, userId);
+        customerStatsDao.recordOrder(userId, order.getTotalAmount(), order.getCreatedAt());
+        orderStatusCounterDao.increment(order.getStatus().name(), 1);
+        stage.finish(order.getId(), cartItems.size());
 
         return new CheckoutResponse(
                 "Order created successfully",
@@ -124,12 +166,20 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public OrderResponse updateOrderStatus(Long orderId, OrderStatus status) {
-        Order order = orderDao.findById(orderId)
+        Order order = orderDao.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new NotFoundException("Order not found with id: " + orderId));
 
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(status);
         Order savedOrder = orderDao.save(order);
 
+        updateRatingEligibility(savedOrder, previousStatus, status);
+        updateCustomerStats(savedOrder, previousStatus, status);
+        if (previousStatus != status) {
+            orderStatusCounterDao.increment(previousStatus.name(), -1);
+            orderStatusCounterDao.increment(status.name(), 1);
+        }
+
         return orderMapper.toDto(savedOrder);
     }
 
@@ -144,11 +194,14 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponse> getOrdersByWhatsappNumber(String whatsappNumber) {
-        List<Order> orders = orderDao.findByWhatsappNumberContaining(whatsappNumber);
-        return orders.stream()
-                .map(orderMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<OrderSummaryResponse> getOrdersByWhatsappNumber(String whatsappNumber, PhoneMatchMode mode,
+                                                                             String cursor, int size) {
+        OrderSearchRequest request = new OrderSearchRequest();
+        request.setPhone(whatsappNumber);
+        request.setPhoneMatch(mode);
+        request.setCursor(cursor);
+        request.setSize(size);
+        return searchOrders(request);
     }
 
     @Override
@@ -169,6 +222,60 @@ public class OrderServiceImpl implements OrderService {
         return orders.map(orderMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderSummaryResponse> searchOrders(OrderSearchRequest request) {
+        int size = request.getSize() != null ? request.getSize() : 20;
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new InvalidInputException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (request.getMinAmount() != null && request.getMaxAmount() != null
+                && request.getMinAmount().compareTo(request.getMaxAmount()) > 0) {
+            throw new InvalidInputException("Min amount cannot be greater than max amount");
+        }
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new InvalidInputException("Date range start must be before its end");
+        }
+        if (request.getPhone() != null && !request.getPhone().isBlank()) {
+            validatePhoneQuery(request.getPhone(), request.getPhoneMatch());
+        }
+
+        LocalDateTime afterCreatedAt = SEARCH_START;
+        Long afterId = Long.MAX_VALUE;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            String[] parts = KeysetCursor.decode(request.getCursor(), 2);
+            try {
+                afterCreatedAt = LocalDateTime.parse(parts[0]);
+                afterId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+        }
+
+        List<OrderSummaryResponse> rows = orderSearchDao.search(request, afterCreatedAt, afterId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<OrderSummaryResponse> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        if (request.isIncludeItems() && !content.isEmpty()) {
+            Map<Long, List<OrderItemResponse>> itemsByOrder = orderItemDao.findByOrderIdIn(content.stream()
+                            .map(OrderSummaryResponse::getId)
+                            .collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.groupingBy(item -> item.getOrder().getId(),
+                            Collectors.mapping(orderItemMapper::toDto, Collectors.toList())));
+            content.forEach(summary -> summary.setItems(itemsByOrder.getOrDefault(summary.getId(), List.of())));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<OrderResponse> getLatestUserOrder(Long userId) {
@@ -178,21 +285,50 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Object[]> getTopCustomers(int limit) {
+    public List<TopCustomerResponse> getTopCustomers(int limit, TopCustomerMetric metric) {
+        if (limit < 1 || limit > MAX_SEARCH_PAGE_SIZE) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+
         Pageable pageable = PageRequest.of(0, limit);
-        return orderDao.findTopCustomers(pageable);
+        return metric == TopCustomerMetric.SPENT
+                ? customerStatsDao.findTopByTotalSpent(pageable)
+                : customerStatsDao.findTopByOrderCount(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public BigDecimal getUserTotalSpent(Long userId) {
-        return orderDao.getTotalAmountByUserId(userId);
+        return customerStatsDao.findTotalSpentByUserId(userId).orElse(BigDecimal.ZERO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long getOrderCountByStatus(OrderStatus status) {
-        return orderDao.countByStatus(status);
+        return orderStatusCounterDao.findById(status)
+                .map(OrderStatusCounter::getOrderCount)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<OrderStatus, Long> getOrderCountsByStatus() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (OrderStatusCounter counter : orderStatusCounterDao.findAll()) {
+            counts.put(counter.getStatus(), counter.getOrderCount());
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.status-counters.reconcile-interval-ms:300000}")
+    public void reconcileStatusCounters() {
+        int corrected = orderStatusCounterDao.reconcileFromOrders() + orderStatusCounterDao.resetMissingStatuses();
+        if (corrected > 0) {
+            log.info("Reconciled {} order status counters against orders", corrected);
+        }
     }
 
     @Override
@@ -240,10 +376,23 @@ public class OrderServiceImpl implements OrderService {
         return orderItemDao.findSalesByBrand();
     }
 
+    private void validatePhoneQuery(String phone, PhoneMatchMode mode) {
+        int digits = PhoneNumbers.digits(phone).length();
+        if (mode == PhoneMatchMode.SUFFIX && digits < MIN_PHONE_SUFFIX_DIGITS) {
+            throw new InvalidInputException("Phone suffix must contain at least " + MIN_PHONE_SUFFIX_DIGITS + " digits");
+        }
+        if (mode == PhoneMatchMode.PARTIAL && digits < MIN_PHONE_PARTIAL_DIGITS) {
+            throw new InvalidInputException("Phone fragment must contain at least " + MIN_PHONE_PARTIAL_DIGITS + " digits");
+        }
+        if (digits == 0) {
+            throw new InvalidInputException("Phone number must contain digits");
+        }
+    }
+
     private Order createOrderWithItems(User user, OrderRequest orderRequest, List<CartItem> cartItems) {
         Order order = new Order();
         order.setUser(user);
-        order.setWhatsappNumber(orderRequest.getWhatsappNumber());
+        order.setWhatsappNumber(PhoneNumbers.normalize(orderRequest.getWhatsappNumber()));
         order.setDeliveryAddress(orderRequest.getDeliveryAddress());
         order.setCustomerNotes(orderRequest.getCustomerNotes());
         order.setStatus(OrderStatus.PENDING);
@@ -264,6 +413,10 @@ public class OrderServiceImpl implements OrderService {
             orderItem.setPerfume(cartItem.getPerfume());
             orderItem.setQuantity(cartItem.getQuantity());
             orderItem.setUnitPrice(cartItem.getPerfume().getDiscountedPrice());
+            orderItem.setPerfumeName(cartItem.getPerfume().getName());
+            orderItem.setBrandName(cartItem.getPerfume().getBrand().getName());
+            orderItem.setVolume(cartItem.getPerfume().getVolume());
+            orderItem.setImageUrl(cartItem.getPerfume().getImageUrl());
 
             OrderItem savedOrderItem = orderItemDao.save(orderItem);
             orderItems.add(savedOrderItem);
@@ -274,6 +427,31 @@ public class OrderServiceImpl implements OrderService {
         return savedOrder;
     }
 
+    private void updateRatingEligibility(Order order, OrderStatus previousStatus, OrderStatus newStatus) {
+        boolean wasDelivered = previousStatus == OrderStatus.DELIVERED;
+        boolean isDelivered = newStatus == OrderStatus.DELIVERED;
+
+        if (!wasDelivered && isDelivered) {
+            ratingEligibilityDao.grantForOrder(order.getId());
+            userRelationshipCache.eligibilityChanged(order.getUser().getId());
+        } else if (wasDelivered && !isDelivered) {
+            ratingEligibilityDao.revokeForOrder(order.getId());
+            ratingEligibilityDao.deleteExhausted(order.getUser().getId());
+            userRelationshipCache.eligibilityChanged(order.getUser().getId());
+        }
+    }
+
+    private void updateCustomerStats(Order order, OrderStatus previousStatus, OrderStatus newStatus) {
+        boolean wasActive = previousStatus != OrderStatus.CANCELLED;
+        boolean isActive = newStatus != OrderStatus.CANCELLED;
+        if (wasActive == isActive) {
+            return;
+        }
+
+        BigDecimal spentDelta = isActive ? order.getTotalAmount() : order.getTotalAmount().negate();
+        customerStatsDao.applyStatusChange(order.getUser().getId(), spentDelta, isActive ? 1 : -1);
+    }
+
     private void validateStockAvailability(List<CartItem> cartItems) {
         for (CartItem item : cartItems) {
             Perfume perfume = item.getPerfume();
@@ -284,12 +462,17 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void updateProductStock(List<CartItem> cartItems) {
+        Set<Long> perfumeIds = new HashSet<>();
         for (CartItem item : cartItems) {
             Perfume perfume = item.getPerfume();
             int newStock = perfume.getStockQuantity() - item.getQuantity();
             perfume.setStockQuantity(Math.max(0, newStock));
             perfumeDao.save(perfume);
+            perfumeResponseCache.invalidate(perfume.getId());
+            perfumeIds.add(perfume.getId());
         }
+        catalogChangeFeed.publishAll(CatalogEntityType.PERFUME, perfumeIds, CatalogChangeType.UPSERT);
+        cartStore.refreshStock(perfumeIds);
     }
 
     private String createWhatsAppMessage(Order order) {
@@ -302,8 +485,8 @@ public class OrderServiceImpl implements OrderService {
 
         message.append("🛍 *Products:*\n");
         for (OrderItem item : order.getItems()) {
-            message.append("• ").append(item.getPerfume().getName())
-                    .append(" (").append(item.getPerfume().getBrand().getName()).append(")")
+            message.append("• ").append(item.getPerfumeName())
+                    .append(" (").append(item.getBrandName()).append(")")
                     .append(" - ").append(item.getQuantity()).append(" pcs")
                     .append(" - ").append(item.getUnitPrice()).append(" AZN\n");
         }
@@ -329,8 +512,8 @@ public class OrderServiceImpl implements OrderService {
         StringBuilder details = new StringBuilder();
 
         for (OrderItem item : order.getItems()) {
-            details.append("- ").append(item.getPerfume().getName())
-                    .append(" (").append(item.getPerfume().getBrand().getName()).append(")")
+            details.append("- ").append(item.getPerfumeName())
+                    .append(" (").append(item.getBrandName()).append(")")
                     .append(" - Quantity: ").append(item.getQuantity())
                     .append(" - Unit Price: ").append(item.getUnitPrice()).append(" AZN")
                     .append(" - Total: ").append(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()))).append(" AZN")
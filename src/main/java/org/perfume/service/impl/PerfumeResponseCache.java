@@ -0,0 +1,95 @@
+package org.perfume.service.impl;
+
+import org.perfume.model.dto.response.PerfumeResponse;
+import org.perfume.util.TransactionCallbacks;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class PerfumeResponseCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Long, Entry> entries = Collections.synchronizedMap(new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, PerfumeResponseCache.Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public Optional<PerfumeResponse> get(Long perfumeId, Supplier<Optional<PerfumeResponse>> loader) {
+        long version = versions.getOrDefault(perfumeId, 0L);
+
+        Entry entry = entries.get(perfumeId);
+        if (entry != null && entry.version == version) {
+            return Optional.of(entry.response);
+        }
+
+        Optional<PerfumeResponse> loaded = loader.get();
+        loaded.ifPresent(response -> store(perfumeId, version, response));
+        return loaded;
+    }
+
+    public int warm(Collection<Long> perfumeIds, Function<Collection<Long>, List<PerfumeResponse>> loader) {
+        Map<Long, Long> missing = new HashMap<>();
+
+        for (Long perfumeId : perfumeIds) {
+            long version = versions.getOrDefault(perfumeId, 0L);
+            Entry entry = entries.get(perfumeId);
+            if (entry == null || entry.version != version) {
+                missing.put(perfumeId, version);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        int warmed = 0;
+        for (PerfumeResponse response : loader.apply(missing.keySet())) {
+            Long version = missing.get(response.getId());
+            if (version != null && store(response.getId(), version, response)) {
+                warmed++;
+            }
+        }
+        return warmed;
+    }
+
+    public void invalidate(Long perfumeId) {
+        Runnable evict = () -> {
+            versions.merge(perfumeId, 1L, Long::sum);
+            entries.remove(perfumeId);
+        };
+        evict.run();
+        TransactionCallbacks.afterCommit(evict);
+    }
+
+    private boolean store(Long perfumeId, long version, PerfumeResponse response) {
+        if (versions.getOrDefault(perfumeId, 0L) != version) {
+            return false;
+        }
+        entries.put(perfumeId, new Entry(version, response));
+        return true;
+    }
+
+    private static class Entry {
+        private final long version;
+        private final PerfumeResponse response;
+
+        private Entry(long version, PerfumeResponse response) {
+            this.version = version;
+            this.response = response;
+        }
+    }
+}
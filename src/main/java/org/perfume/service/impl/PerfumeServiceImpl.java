@@ -1,6 +1,8 @@
 package org.perfume.service.impl;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.perfume.domain.entity.Brand;
 import org.perfume.domain.entity.Category;
 import org.perfume.domain.entity.Perfume;
@@ -15,25 +17,36 @@ import org.perfume.model.dto.request.PerfumeRequest;
 import org.perfume.model.dto.request.ProductFilterRequest;
 import org.perfume.model.dto.response.PageResponse;
 import org.perfume.model.dto.response.PerfumeResponse;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
 import org.perfume.model.enums.FragranceFamily;
 import org.perfume.model.enums.Gender;
 import org.perfume.model.enums.Volume;
+import org.perfume.service.CartStore;
+import org.perfume.service.CatalogSyncService;
 import org.perfume.service.PerfumeService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional
 public class PerfumeServiceImpl implements PerfumeService {
 
@@ -42,6 +55,27 @@ public class PerfumeServiceImpl implements PerfumeService {
     private final PerfumeMapper perfumeMapper;
     private final BrandDao brandDao;
     private final UserService userService;
+    private final CartStore cartStore;
+    private final FavoriteAlertService favoriteAlertService;
+    private final CatalogSyncService catalogSyncService;
+    private final CatalogChangeFeed catalogChangeFeed;
+    private final PerfumeResponseCache perfumeResponseCache;
+    private final HotKeyTracker hotKeyTracker;
+
+    @Value("${app.catalog.hot-keys.warm-up-window-minutes:15}")
+    private int warmUpWindowMinutes;
+
+    @Value("${app.catalog.hot-keys.warm-up-size:100}")
+    private int warmUpSize;
+
+    @PostConstruct
+    void checkWarmUpSettings() {
+        if (!hotKeyTracker.supports(warmUpWindowMinutes, warmUpSize)) {
+            throw new IllegalStateException(String.format(
+                    "Invalid hot perfume warm-up settings: window of %d minutes, size %d",
+                    warmUpWindowMinutes, warmUpSize));
+        }
+    }
 
     @Override
     public PerfumeResponse save(PerfumeRequest request) {
@@ -49,8 +83,9 @@ public class PerfumeServiceImpl implements PerfumeService {
             throw new AlreadyExistsException("Perfume already exists with name: " + request.getName());
         }
 
-        Perfume perfume = perfumeMapper.toEntity(request);
-        return perfumeMapper.toDto(perfumeDao.save(perfume));
+        Perfume perfume = perfumeDao.save(perfumeMapper.toEntity(request));
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, perfume.getId(), CatalogChangeType.UPSERT);
+        return perfumeMapper.toDto(perfume);
     }
 
     @Override
@@ -87,6 +122,9 @@ public class PerfumeServiceImpl implements PerfumeService {
         }
 
         Perfume updatedPerfume = perfumeDao.save(perfume);
+        perfumeResponseCache.invalidate(id);
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, id, CatalogChangeType.UPSERT);
+        cartStore.evictPerfume(id);
         return perfumeMapper.toDto(updatedPerfume);
     }
 
@@ -95,16 +133,20 @@ public class PerfumeServiceImpl implements PerfumeService {
         if (!perfumeDao.existsById(id)) {
             throw new NotFoundException("Perfume not found with id: " + id);
         }
+        cartStore.removePerfume(id);
+        favoriteAlertService.perfumeDeleted(id);
         perfumeDao.deleteById(id);
+        perfumeResponseCache.invalidate(id);
+        catalogSyncService.recordDeletions(CatalogEntityType.PERFUME, List.of(id));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PerfumeResponse findById(Long id) {
-        Perfume perfume = perfumeDao.findById(id)
+        PerfumeResponse shared = perfumeResponseCache.get(id, () -> perfumeDao.findByIdWithBrandAndCategory(id).map(perfumeMapper::toDto))
                 .orElseThrow(() -> new NotFoundException("Perfume not found with id: " + id));
         Long userId = getCurrentUserId();
-        return perfumeMapper.toDto(perfume, userId);
+        return perfumeMapper.withUserState(shared, userId);
     }
 
     @Override
@@ -267,6 +309,41 @@ public class PerfumeServiceImpl implements PerfumeService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PerfumeResponse> getTrendingPerfumes(int windowMinutes, int limit) {
+        List<Long> hotIds = hotKeyTracker.getHotProductIds(windowMinutes, limit);
+        if (hotIds.isEmpty()) {
+            return List.of();
+        }
+
+        Long userId = getCurrentUserId();
+        Map<Long, Perfume> perfumes = perfumeDao.findAllWithBrandAndCategoryByIdIn(hotIds).stream()
+                .collect(Collectors.toMap(Perfume::getId, Function.identity()));
+
+        return hotIds.stream()
+                .map(perfumes::get)
+                .filter(Objects::nonNull)
+                .map(perfume -> perfumeMapper.toDto(perfume, userId))
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.hot-keys.warm-up-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void warmHotPerfumes() {
+        List<Long> hotIds = hotKeyTracker.getHotProductIds(warmUpWindowMinutes, warmUpSize);
+        if (hotIds.isEmpty()) {
+            return;
+        }
+
+        int warmed = perfumeResponseCache.warm(hotIds, missingIds -> perfumeDao.findAllWithBrandAndCategoryByIdIn(missingIds).stream()
+                .map(perfumeMapper::toDto)
+                .collect(Collectors.toList()));
+        if (warmed > 0) {
+            log.debug("Warmed {} hot perfumes into the response cache", warmed);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PerfumeResponse> getSimilarPerfumes(Long perfumeId) {
@@ -321,8 +398,16 @@ public class PerfumeServiceImpl implements PerfumeService {
         Perfume perfume = perfumeDao.findById(id)
                 .orElseThrow(() -> new NotFoundException("Perfume not found with id: " + id));
 
+        boolean wasOutOfStock = perfume.getStockQuantity() == null || perfume.getStockQuantity() <= 0;
         perfume.setStockQuantity(newStock);
         Perfume updatedPerfume = perfumeDao.save(perfume);
+        perfumeResponseCache.invalidate(id);
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, id, CatalogChangeType.UPSERT);
+        cartStore.evictPerfume(id);
+
+        if (wasOutOfStock && newStock != null && newStock > 0) {
+            favoriteAlertService.backInStock(id);
+        }
         return perfumeMapper.toDto(updatedPerfume);
     }
 
@@ -331,8 +416,16 @@ public class PerfumeServiceImpl implements PerfumeService {
         Perfume perfume = perfumeDao.findById(id)
                 .orElseThrow(() -> new NotFoundException("Perfume not found with id: " + id));
 
+        int previousDiscount = perfume.getDiscountPercent() != null ? perfume.getDiscountPercent() : 0;
         perfume.setDiscountPercent(discountPercent);
         Perfume updatedPerfume = perfumeDao.save(perfume);
+        perfumeResponseCache.invalidate(id);
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, id, CatalogChangeType.UPSERT);
+        cartStore.evictPerfume(id);
+
+        if (discountPercent != null && discountPercent > previousDiscount) {
+            favoriteAlertService.priceDropped(id);
+        }
         return perfumeMapper.toDto(updatedPerfume);
     }
 
@@ -343,6 +436,8 @@ public class PerfumeServiceImpl implements PerfumeService {
 
         perfume.setFeatured(!perfume.isFeatured());
         Perfume updatedPerfume = perfumeDao.save(perfume);
+        perfumeResponseCache.invalidate(id);
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, id, CatalogChangeType.UPSERT);
         return perfumeMapper.toDto(updatedPerfume);
     }
 
@@ -353,6 +448,8 @@ public class PerfumeServiceImpl implements PerfumeService {
 
         perfume.setBestseller(!perfume.isBestseller());
         Perfume updatedPerfume = perfumeDao.save(perfume);
+        perfumeResponseCache.invalidate(id);
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, id, CatalogChangeType.UPSERT);
         return perfumeMapper.toDto(updatedPerfume);
     }
 
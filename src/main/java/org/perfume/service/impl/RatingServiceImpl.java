@@ -8,14 +8,22 @@ import org.perfume.exception.InvalidInputException;
 import org.perfume.exception.NotFoundException;
 import org.perfume.mapper.RatingMapper;
 import org.perfume.model.dto.request.RatingRequest;
+import org.perfume.model.dto.response.CursorPageResponse;
+import org.perfume.model.dto.response.RatingDistributionResponse;
+import org.perfume.model.dto.response.RatingFeedItemResponse;
 import org.perfume.model.dto.response.RatingResponse;
-import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.CatalogChangeType;
+import org.perfume.model.enums.CatalogEntityType;
+import org.perfume.model.enums.RatingSort;
 import org.perfume.service.RatingService;
+import org.perfume.util.KeysetCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +33,14 @@ public class RatingServiceImpl implements RatingService {
     private final RatingDao ratingDao;
     private final UserDao userDao;
     private final PerfumeDao perfumeDao;
-    private final OrderDao orderDao;
+    private final RatingEligibilityDao ratingEligibilityDao;
     private final RatingMapper ratingMapper;
+    private final UserRelationshipCache userRelationshipCache;
+    private final PerfumeResponseCache perfumeResponseCache;
+    private final CatalogChangeFeed catalogChangeFeed;
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final LocalDateTime FEED_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     @Override
     public RatingResponse addRating(Long userId, Long perfumeId, RatingRequest request) {
@@ -50,7 +64,9 @@ public class RatingServiceImpl implements RatingService {
 
         Rating savedRating = ratingDao.save(rating);
 
-        updatePerfumeRatingStats(perfumeId);
+        perfumeDao.applyRatingChange(perfumeId, 0, savedRating.getRating());
+        ratingStatsChanged(perfumeId);
+        userRelationshipCache.ratingAdded(userId, perfumeId);
 
         return ratingMapper.toDto(savedRating);
     }
@@ -60,12 +76,17 @@ public class RatingServiceImpl implements RatingService {
         Rating existingRating = ratingDao.findByUserIdAndPerfumeId(userId, perfumeId)
                 .orElseThrow(() -> new NotFoundException("Rating not found for this user and perfume"));
 
+        int oldRating = existingRating.getRating();
+
         existingRating.setRating(request.getRating());
         existingRating.setComment(request.getComment());
 
         Rating updatedRating = ratingDao.save(existingRating);
 
-        updatePerfumeRatingStats(perfumeId);
+        if (oldRating != updatedRating.getRating()) {
+            perfumeDao.applyRatingChange(perfumeId, oldRating, updatedRating.getRating());
+            ratingStatsChanged(perfumeId);
+        }
 
         return ratingMapper.toDto(updatedRating);
     }
@@ -77,7 +98,9 @@ public class RatingServiceImpl implements RatingService {
 
         ratingDao.delete(rating);
 
-        updatePerfumeRatingStats(perfumeId);
+        perfumeDao.applyRatingChange(perfumeId, rating.getRating(), 0);
+        ratingStatsChanged(perfumeId);
+        userRelationshipCache.ratingRemoved(userId, perfumeId);
     }
 
     @Override
@@ -87,6 +110,51 @@ public class RatingServiceImpl implements RatingService {
         return ratingMapper.toDtoList(ratings);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RatingFeedItemResponse> getPerfumeRatingFeed(Long perfumeId, RatingSort sort,
+                                                                           String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_PAGE_SIZE) {
+            throw new InvalidInputException("Page size must be between 1 and " + MAX_FEED_PAGE_SIZE);
+        }
+
+        RatingSort feedSort = sort != null ? sort : RatingSort.NEWEST;
+
+        Integer afterRating = feedSort == RatingSort.LOWEST ? 0 : 6;
+        LocalDateTime afterCreatedAt = FEED_START;
+        Long afterId = Long.MAX_VALUE;
+
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursor.decode(cursor, 3);
+            try {
+                afterRating = Integer.valueOf(parts[0]);
+                afterCreatedAt = LocalDateTime.parse(parts[1]);
+                afterId = Long.valueOf(parts[2]);
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<RatingFeedItemResponse> rows = switch (feedSort) {
+            case NEWEST -> ratingDao.findFeedNewest(perfumeId, afterCreatedAt, afterId, limit);
+            case HIGHEST -> ratingDao.findFeedHighest(perfumeId, afterRating, afterCreatedAt, afterId, limit);
+            case LOWEST -> ratingDao.findFeedLowest(perfumeId, afterRating, afterCreatedAt, afterId, limit);
+        };
+
+        boolean hasNext = rows.size() > size;
+        List<RatingFeedItemResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RatingFeedItemResponse last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getRating(), last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<RatingResponse> getUserRatings(Long userId) {
@@ -104,25 +172,53 @@ public class RatingServiceImpl implements RatingService {
     @Override
     @Transactional(readOnly = true)
     public boolean canUserRate(Long userId, Long perfumeId) {
-        if (ratingDao.existsByUserIdAndPerfumeId(userId, perfumeId)) {
-            return false;
+        return userRelationshipCache.canRate(userId, perfumeId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getRateablePerfumeIds(Long userId, Collection<Long> perfumeIds) {
+        if (perfumeIds == null || perfumeIds.isEmpty()) {
+            return Collections.emptySet();
         }
 
-        return orderDao.existsByUserIdAndPerfumeIdAndStatus(userId, perfumeId, OrderStatus.DELIVERED);
+        Set<Long> rateable = new HashSet<>();
+        for (Long perfumeId : perfumeIds) {
+            if (userRelationshipCache.canRate(userId, perfumeId)) {
+                rateable.add(perfumeId);
+            }
+        }
+        return rateable;
     }
 
+    @Override
     public void updatePerfumeRatingStats(Long perfumeId) {
-        Double averageRating = ratingDao.getAverageRatingByPerfumeId(perfumeId);
-        Long ratingCount = ratingDao.getRatingCountByPerfumeId(perfumeId);
+        if (perfumeDao.recomputeRatingStats(perfumeId) == 0) {
+            throw new NotFoundException("Perfume not found with id: " + perfumeId);
+        }
+        ratingStatsChanged(perfumeId);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RatingDistributionResponse getRatingDistribution(Long perfumeId) {
         Perfume perfume = perfumeDao.findById(perfumeId)
                 .orElseThrow(() -> new NotFoundException("Perfume not found with id: " + perfumeId));
 
-        if (averageRating != null) {
-            averageRating = Math.round(averageRating * 10.0) / 10.0;
-        }
+        return new RatingDistributionResponse(
+                perfume.getId(),
+                perfume.getAverageRating(),
+                perfume.getRatingCount(),
+                perfume.getOneStarCount(),
+                perfume.getTwoStarCount(),
+                perfume.getThreeStarCount(),
+                perfume.getFourStarCount(),
+                perfume.getFiveStarCount()
+        );
+    }
 
-        perfume.updateRatingStats(averageRating, ratingCount);
-        perfumeDao.save(perfume);
+    private void ratingStatsChanged(Long perfumeId) {
+        perfumeResponseCache.invalidate(perfumeId);
+        catalogChangeFeed.publish(CatalogEntityType.PERFUME, perfumeId, CatalogChangeType.UPSERT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package org.perfume.service.impl;
+
+import org.perfume.domain.repo.FavoriteDao;
+import org.perfume.domain.repo.RatingDao;
+import org.perfume.domain.repo.RatingEligibilityDao;
+import org.perfume.model.dto.response.PerfumeRelationshipResponse;
+import org.perfume.util.LongIdSet;
+import org.perfume.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Component
+public class UserRelationshipCache {
+
+    private final FavoriteDao favoriteDao;
+    private final RatingDao ratingDao;
+    private final RatingEligibilityDao ratingEligibilityDao;
+    private final long idleTimeoutMillis;
+    private final Map<Long, Entry> entries;
+
+    public UserRelationshipCache(FavoriteDao favoriteDao,
+                                 RatingDao ratingDao,
+                                 RatingEligibilityDao ratingEligibilityDao,
+                                 @Value("${app.user-relationships.cache.max-users:50000}") int maxUsers,
+                                 @Value("${app.user-relationships.cache.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.favoriteDao = favoriteDao;
+        this.ratingDao = ratingDao;
+        this.ratingEligibilityDao = ratingEligibilityDao;
+        this.idleTimeoutMillis = idleTimeoutMinutes * 60_000;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserRelationshipCache.Entry> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public boolean isFavorite(Long userId, Long perfumeId) {
+        return favorites(userId).contains(perfumeId);
+    }
+
+    public boolean isRated(Long userId, Long perfumeId) {
+        return rated(userId).contains(perfumeId);
+    }
+
+    public boolean canRate(Long userId, Long perfumeId) {
+        return !isRated(userId, perfumeId) && eligible(userId).contains(perfumeId);
+    }
+
+    public List<PerfumeRelationshipResponse> getRelationships(Long userId, Collection<Long> perfumeIds) {
+        LongIdSet favorites = favorites(userId);
+        LongIdSet rated = rated(userId);
+        LongIdSet eligible = eligible(userId);
+
+        return perfumeIds.stream()
+                .distinct()
+                .map(perfumeId -> new PerfumeRelationshipResponse(
+                        perfumeId,
+                        favorites.contains(perfumeId),
+                        rated.contains(perfumeId),
+                        !rated.contains(perfumeId) && eligible.contains(perfumeId)
+                ))
+                .collect(Collectors.toList());
+    }
+
+    public void favoriteAdded(Long userId, Long perfumeId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, entry -> entry.favorites = apply(entry.favorites, set -> set.with(perfumeId))));
+    }
+
+    public void favoriteRemoved(Long userId, Long perfumeId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, entry -> entry.favorites = apply(entry.favorites, set -> set.without(perfumeId))));
+    }
+
+    public void ratingAdded(Long userId, Long perfumeId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, entry -> entry.rated = apply(entry.rated, set -> set.with(perfumeId))));
+    }
+
+    public void ratingRemoved(Long userId, Long perfumeId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, entry -> entry.rated = apply(entry.rated, set -> set.without(perfumeId))));
+    }
+
+    public void eligibilityChanged(Long userId) {
+        TransactionCallbacks.afterCommit(() -> update(userId, entry -> entry.eligible = null));
+    }
+
+    @Scheduled(fixedDelayString = "${app.user-relationships.cache.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - idleTimeoutMillis;
+        entries.values().removeIf(entry -> entry.lastAccess < idleBefore);
+    }
+
+    private LongIdSet favorites(Long userId) {
+        Entry entry = entry(userId);
+        LongIdSet favorites = entry.favorites;
+        if (favorites == null) {
+            favorites = load(entry, () -> favoriteDao.findPerfumeIdsByUserId(userId), loaded -> entry.favorites = loaded);
+        }
+        return favorites;
+    }
+
+    private LongIdSet rated(Long userId) {
+        Entry entry = entry(userId);
+        LongIdSet rated = entry.rated;
+        if (rated == null) {
+            rated = load(entry, () -> ratingDao.findPerfumeIdsByUserId(userId), loaded -> entry.rated = loaded);
+        }
+        return rated;
+    }
+
+    private LongIdSet eligible(Long userId) {
+        Entry entry = entry(userId);
+        LongIdSet eligible = entry.eligible;
+        if (eligible == null) {
+            eligible = load(entry, () -> ratingEligibilityDao.findPerfumeIdsByUserId(userId), loaded -> entry.eligible = loaded);
+        }
+        return eligible;
+    }
+
+    private LongIdSet load(Entry entry, Supplier<List<Long>> query, Consumer<LongIdSet> store) {
+        long version = entry.version.get();
+        LongIdSet loaded = LongIdSet.of(query.get());
+
+        synchronized (entry) {
+            if (entry.version.get() == version) {
+                store.accept(loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private Entry entry(Long userId) {
+        Entry entry = entries.computeIfAbsent(userId, id -> new Entry());
+        entry.lastAccess = System.currentTimeMillis();
+        return entry;
+    }
+
+    private void update(Long userId, Consumer<Entry> change) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return;
+        }
+
+        synchronized (entry) {
+            entry.version.incrementAndGet();
+            change.accept(entry);
+        }
+    }
+
+    private LongIdSet apply(LongIdSet set, UnaryOperator<LongIdSet> change) {
+        return set == null ? null : change.apply(set);
+    }
+
+    private static class Entry {
+        private final AtomicLong version = new AtomicLong();
+        private volatile LongIdSet favorites;
+        private volatile LongIdSet rated;
+        private volatile LongIdSet eligible;
+        private volatile long lastAccess;
+    }
+}
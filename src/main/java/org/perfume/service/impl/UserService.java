@@ -1,28 +1,52 @@
 package org.perfume.service.impl;
 
+import io.micrometer.core.annotation.Timed;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.perfume.domain.entity.User;
+import org.perfume.domain.repo.CustomerStatsDao;
 import org.perfume.domain.repo.UserDao;
+import org.perfume.domain.repo.UserSearchDao;
+import org.perfume.domain.view.UserSearchHit;
+import org.perfume.domain.view.UserView;
 import org.perfume.exception.AlreadyExistsException;
 import org.perfume.exception.InvalidInputException;
 import org.perfume.exception.NotFoundException;
 import org.perfume.mapper.UserMapper;
 import org.perfume.model.dto.request.ProfileUpdateRequest;
 import org.perfume.model.dto.request.UpdatePasswordRequest;
+import org.perfume.model.dto.response.CursorPageResponse;
 import org.perfume.model.dto.response.UserResponse;
 import org.perfume.model.enums.UserRole;
+import org.perfume.util.KeysetCursor;
+import org.perfume.util.PhoneNumbers;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
+@Timed
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_SEARCH_LENGTH = 3;
+    private static final LocalDateTime PAGE_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final BigDecimal SEARCH_START_RANK = BigDecimal.valueOf(2);
+
     private final UserDao userDao;
+    private final UserSearchDao userSearchDao;
+    private final CustomerStatsDao customerStatsDao;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
 
@@ -59,38 +83,57 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
-    public List<UserResponse> getUsersByRole(UserRole role) {
-        return userDao.findByRole(role)
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<UserResponse> getUsersByRole(UserRole role, String cursor, int size) {
+        return readPage(cursor, size,
+                (after, limit) -> userDao.findUserPageByRole(role, after.getCreatedAt(), after.getId(), limit));
     }
 
     public UserResponse getUserByPhoneNumber(String phoneNumber) {
-        User user = userDao.findByPhoneNumber(phoneNumber)
+        User user = userDao.findByPhoneNumber(PhoneNumbers.normalize(phoneNumber))
                 .orElseThrow(() -> new NotFoundException("User not found with phone number: " + phoneNumber));
         return userMapper.toDto(user);
     }
 
-    public List<UserResponse> searchUsers(String searchTerm) {
-        return userDao.findByNameOrEmailContaining(searchTerm, searchTerm)
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
-    }
+    public CursorPageResponse<UserResponse> searchUsers(String searchTerm, String cursor, int size) {
+        validatePageSize(size);
+        String term = searchTerm != null ? searchTerm.trim() : "";
+        if (term.length() < MIN_SEARCH_LENGTH) {
+            throw new InvalidInputException("Search term must contain at least " + MIN_SEARCH_LENGTH + " characters");
+        }
 
-    public List<UserResponse> getRecentlyRegisteredUsers() {
-        return userDao.findRecentlyRegistered()
-                .stream()
-                .map(userMapper::toDto)
+        BigDecimal afterRank = SEARCH_START_RANK;
+        Long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            try {
+                afterRank = new BigDecimal(parts[0]);
+                afterId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+        }
+
+        List<UserSearchHit> rows = userSearchDao.search(term, afterRank, afterId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<UserSearchHit> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserSearchHit last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getRank().toPlainString(), last.getUser().getId());
+        }
+
+        List<UserResponse> content = page.stream()
+                .map(hit -> userMapper.toDto(hit.getUser()))
                 .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
     }
 
-    public List<UserResponse> getUsersWithActiveOrders() {
-        return userDao.findUsersWithActiveOrders()
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<UserResponse> getUsersWithActiveOrders(String cursor, int size) {
+        return readPage(cursor, size,
+                (after, limit) -> userDao.findUserPageWithActiveOrders(after.getCreatedAt(), after.getId(), limit));
     }
 
     @Transactional
@@ -146,13 +189,28 @@ public class UserService {
         }
 
         userDao.delete(user);
+        customerStatsDao.deleteById(userId);
     }
 
-    public List<UserResponse> getAllUsers() {
-        return userDao.findAll()
-                .stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<UserResponse> getAllUsers(String cursor, int size) {
+        return readPage(cursor, size,
+                (after, limit) -> userDao.findUserPage(after.getCreatedAt(), after.getId(), limit));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportUsers(Writer writer) {
+        PrintWriter out = new PrintWriter(writer);
+        out.println("id,name,email,phone_number,role,is_google_user,is_verified,created_at");
+        userSearchDao.streamAll(user -> out.println(String.join(",",
+                String.valueOf(user.getId()),
+                csv(user.getName()),
+                csv(user.getEmail()),
+                csv(user.getPhoneNumber()),
+                user.getRole().name(),
+                String.valueOf(user.isGoogleUser()),
+                String.valueOf(user.isVerified()),
+                user.getCreatedAt() != null ? user.getCreatedAt().toString() : "")));
+        out.flush();
     }
 
     @Transactional
@@ -173,4 +231,59 @@ public class UserService {
         User savedUser = userDao.save(user);
         return userMapper.toDto(savedUser);
     }
-}
\ No newline at end of file
+
+    private CursorPageResponse<UserResponse> readPage(String cursor, int size,
+                                                      BiFunction<PageAnchor, Pageable, List<UserView>> query) {
+        validatePageSize(size);
+
+        PageAnchor after = new PageAnchor(PAGE_START, Long.MAX_VALUE);
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = KeysetCursor.decode(cursor, 2);
+            try {
+                after = new PageAnchor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+        }
+
+        List<UserView> rows = query.apply(after, PageRequest.of(0, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<UserView> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserView last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        List<UserResponse> content = page.stream()
+                .map(userMapper::toDto)
+                .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PageAnchor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+    }
+}
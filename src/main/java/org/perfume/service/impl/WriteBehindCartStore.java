@@ -0,0 +1,351 @@
+package org.perfume.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.perfume.domain.view.CartBadgeView;
+import org.perfume.domain.view.CartState;
+import org.perfume.service.CartStore;
+import org.perfume.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.cart.write-behind.enabled", havingValue = "true", matchIfMissing = true)
+public class WriteBehindCartStore implements CartStore {
+
+    private static final int STRIPES = 64;
+    private static final int MAX_CACHED_BADGES = 100_000;
+
+    private final DatabaseCartStore databaseCartStore;
+    private final TransactionTemplate transactionTemplate;
+    private final long idleTimeoutMillis;
+    private final Map<Long, HotCart> carts = new ConcurrentHashMap<>();
+    private final Map<Long, CartBadgeView> badges = Collections.synchronizedMap(new LinkedHashMap<Long, CartBadgeView>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CartBadgeView> eldest) {
+            return size() > MAX_CACHED_BADGES;
+        }
+    });
+    private final Object[] stripes = new Object[STRIPES];
+
+    public WriteBehindCartStore(DatabaseCartStore databaseCartStore,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.cart.write-behind.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.databaseCartStore = databaseCartStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idleTimeoutMillis = idleTimeoutMinutes * 60_000;
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    @Override
+    public <T> T read(Long userId, Function<CartState, T> reader) {
+        return withResident(userId, cart -> reader.apply(cart.state));
+    }
+
+    @Override
+    public <T> T write(Long userId, Function<CartState, T> mutation) {
+        boolean hasCart = withResident(userId, cart -> cart.state.getCartId() != null);
+        Long cartId = hasCart ? null : transactionTemplate.execute(status -> databaseCartStore.createCart(userId));
+
+        return withResident(userId, cart -> {
+            if (cart.state.getCartId() == null && cartId != null) {
+                cart.state.setCartId(cartId);
+                TransactionCallbacks.afterCompletion(committed -> {
+                    if (!committed) {
+                        forgetUncommittedCart(cart);
+                    }
+                });
+            }
+            return mutation.apply(cart.state);
+        });
+    }
+
+    @Override
+    public CartBadgeView readBadge(Long userId) {
+        if (carts.containsKey(userId)) {
+            synchronized (stripe(userId)) {
+                HotCart cart = carts.get(userId);
+                if (cart != null) {
+                    return cart.state.toBadge();
+                }
+            }
+        }
+
+        CartBadgeView badge = badges.get(userId);
+        if (badge == null) {
+            badge = databaseCartStore.readBadge(userId);
+            badges.put(userId, badge);
+        }
+        return badge;
+    }
+
+    @Override
+    public void clear(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            HotCart cart = resident(userId);
+
+            cart.flushLock.lock();
+            TransactionCallbacks.afterCompletion(committed -> {
+                if (committed) {
+                    synchronized (stripe(userId)) {
+                        cart.state.clear();
+                        badges.put(userId, CartBadgeView.EMPTY);
+                    }
+                }
+                cart.flushLock.unlock();
+            });
+
+            databaseCartStore.clear(userId);
+        });
+    }
+
+    @Override
+    public void flush(Long userId) {
+        HotCart cart = carts.get(userId);
+        if (cart != null) {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(cart), true));
+        }
+    }
+
+    @Override
+    @PreDestroy
+    public void flushAll() {
+        flushStripes(false);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cart.write-behind.flush-interval-ms:2000}")
+    public void flushDirty() {
+        flushStripes(true);
+    }
+
+    @Override
+    public void evictPerfume(Long perfumeId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            databaseCartStore.evictPerfume(perfumeId);
+            TransactionCallbacks.afterCompletion(committed -> {
+                if (committed) {
+                    markHolders(Set.of(perfumeId), false);
+                    badges.clear();
+                }
+            });
+        });
+    }
+
+    @Override
+    public void removePerfume(Long perfumeId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            databaseCartStore.removePerfume(perfumeId);
+            TransactionCallbacks.afterCompletion(committed -> {
+                if (committed) {
+                    markHolders(Set.of(perfumeId), true);
+                    badges.clear();
+                }
+            });
+        });
+    }
+
+    @Override
+    public void refreshStock(Collection<Long> perfumeIds) {
+        Set<Long> changed = Set.copyOf(perfumeIds);
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (committed) {
+                markHolders(changed, false);
+            }
+        });
+    }
+
+    private void markHolders(Set<Long> perfumeIds, boolean removed) {
+        for (Long userId : new ArrayList<>(carts.keySet())) {
+            synchronized (stripe(userId)) {
+                HotCart cart = carts.get(userId);
+                if (cart == null) {
+                    continue;
+                }
+
+                boolean holds = false;
+                for (Long perfumeId : perfumeIds) {
+                    if (cart.state.find(perfumeId).isPresent()) {
+                        holds = true;
+                        if (removed) {
+                            cart.state.discard(perfumeId);
+                        }
+                    }
+                }
+
+                if (holds) {
+                    cart.stale = true;
+                    if (isSettled(cart)) {
+                        carts.remove(userId);
+                    }
+                }
+            }
+        }
+    }
+
+    private void flushStripes(boolean evictIdle) {
+        long idleBefore = System.currentTimeMillis() - idleTimeoutMillis;
+        Map<Integer, List<Long>> usersByStripe = carts.keySet().stream()
+                .collect(Collectors.groupingBy(this::stripeIndex));
+
+        usersByStripe.forEach((index, userIds) -> {
+            List<HotCart> batch;
+            synchronized (stripes[index]) {
+                batch = userIds.stream()
+                        .map(carts::get)
+                        .filter(cart -> cart != null && cart.state.hasPendingChanges())
+                        .collect(Collectors.toList());
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(batch, false));
+                } catch (RuntimeException e) {
+                    log.error("Failed to write back {} carts", batch.size(), e);
+                    return;
+                }
+            }
+
+            if (evictIdle) {
+                synchronized (stripes[index]) {
+                    for (Long userId : userIds) {
+                        HotCart cart = carts.get(userId);
+                        if (cart != null && (cart.stale || cart.lastAccess < idleBefore) && isSettled(cart)) {
+                            carts.remove(userId);
+                            if (!cart.stale) {
+                                badges.put(userId, cart.state.toBadge());
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private void persist(List<HotCart> batch, boolean wait) {
+        List<HotCart> locked = new ArrayList<>(batch.size());
+        Map<HotCart, CartState.Changes> drained = new IdentityHashMap<>();
+        TransactionCallbacks.afterCompletion(committed -> {
+            if (!committed) {
+                drained.forEach((cart, changes) -> {
+                    synchronized (stripe(cart.userId)) {
+                        cart.state.restore(changes);
+                    }
+                });
+            }
+            locked.forEach(cart -> cart.flushLock.unlock());
+        });
+
+        for (HotCart cart : batch) {
+            if (wait) {
+                cart.flushLock.lock();
+            } else if (!cart.flushLock.tryLock()) {
+                continue;
+            }
+            locked.add(cart);
+
+            synchronized (stripe(cart.userId)) {
+                if (cart.state.hasPendingChanges()) {
+                    drained.put(cart, cart.state.drainChanges());
+                }
+            }
+        }
+
+        if (!drained.isEmpty()) {
+            databaseCartStore.persist(drained.values());
+        }
+    }
+
+    private void forgetUncommittedCart(HotCart cart) {
+        synchronized (stripe(cart.userId)) {
+            if (carts.get(cart.userId) == cart) {
+                carts.remove(cart.userId);
+            }
+        }
+    }
+
+    private <T> T withResident(Long userId, Function<HotCart, T> action) {
+        while (true) {
+            HotCart cart = resident(userId);
+            synchronized (stripe(userId)) {
+                if (carts.get(userId) == cart) {
+                    return action.apply(cart);
+                }
+            }
+        }
+    }
+
+    private HotCart resident(Long userId) {
+        synchronized (stripe(userId)) {
+            HotCart cart = carts.get(userId);
+            if (cart != null && !needsReload(cart)) {
+                cart.lastAccess = System.currentTimeMillis();
+                return cart;
+            }
+        }
+
+        HotCart loaded = new HotCart(userId, databaseCartStore.load(userId));
+
+        synchronized (stripe(userId)) {
+            HotCart cart = carts.get(userId);
+            if (cart == null || needsReload(cart)) {
+                cart = loaded;
+                carts.put(userId, cart);
+                badges.remove(userId);
+            }
+            cart.lastAccess = System.currentTimeMillis();
+            return cart;
+        }
+    }
+
+    private boolean needsReload(HotCart cart) {
+        return cart.stale && isSettled(cart);
+    }
+
+    private boolean isSettled(HotCart cart) {
+        return !cart.state.hasPendingChanges() && !cart.flushLock.isLocked();
+    }
+
+    private Object stripe(Long userId) {
+        return stripes[stripeIndex(userId)];
+    }
+
+    private int stripeIndex(Long userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+
+    private static class HotCart {
+        private final Long userId;
+        private final CartState state;
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private volatile long lastAccess;
+        private volatile boolean stale;
+
+        private HotCart(Long userId, CartState state) {
+            this.userId = userId;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.perfume.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class LongIdSet {
+
+    public static final LongIdSet EMPTY = new LongIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private LongIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LongIdSet of(Collection<Long> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] ids = values.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new LongIdSet(ids);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public LongIdSet with(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertAt = -index - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return new LongIdSet(copy);
+    }
+
+    public LongIdSet without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+        return new LongIdSet(copy);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
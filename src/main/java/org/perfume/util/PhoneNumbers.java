@@ -0,0 +1,76 @@
+package org.perfume.util;
+
+import java.util.List;
+
+public final class PhoneNumbers {
+
+    private static final String DEFAULT_COUNTRY_CODE = "994";
+    private static final int NATIONAL_NUMBER_LENGTH = 9;
+
+    private PhoneNumbers() {
+    }
+
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        String trimmed = raw.trim();
+        String digits = digits(trimmed);
+        if (digits.isEmpty()) {
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+
+        if (trimmed.startsWith("+")) {
+            return "+" + digits;
+        }
+        if (digits.startsWith("00")) {
+            return "+" + digits.substring(2);
+        }
+        if (digits.startsWith("0")) {
+            return "+" + DEFAULT_COUNTRY_CODE + digits.substring(1);
+        }
+        if (digits.length() <= NATIONAL_NUMBER_LENGTH) {
+            return "+" + DEFAULT_COUNTRY_CODE + digits;
+        }
+        return "+" + digits;
+    }
+
+    public static String digits(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    public static List<String> fragmentDigits(String fragment) {
+        String digits = digits(fragment);
+        if (digits.length() > 1 && digits.startsWith("0") && !digits.startsWith("00")) {
+            return List.of(digits, digits.substring(1));
+        }
+        return List.of(digits);
+    }
+
+    public static String reversedDigits(String value) {
+        return new StringBuilder(digits(value)).reverse().toString();
+    }
+
+    public static String incrementLastDigit(String digits) {
+        int end = digits.length();
+        while (end > 0 && digits.charAt(end - 1) == '9') {
+            end--;
+        }
+        if (end == 0) {
+            return null;
+        }
+        return digits.substring(0, end - 1) + (char) (digits.charAt(end - 1) + 1);
+    }
+}
@@ -0,0 +1,73 @@
+package org.perfume.util;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+public final class SlidingHeavyHitters<K> {
+
+    private final Slot<K>[] slots;
+    private final long slotMillis;
+    private final LongSupplier clock;
+
+    public SlidingHeavyHitters(int slotCount, Duration slotLength, int capacityPerSlot) {
+        this(slotCount, slotLength, capacityPerSlot, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    SlidingHeavyHitters(int slotCount, Duration slotLength, int capacityPerSlot, LongSupplier clock) {
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot<>(capacityPerSlot);
+        }
+        this.slotMillis = slotLength.toMillis();
+        this.clock = clock;
+    }
+
+    public void offer(K key) {
+        long index = clock.getAsLong() / slotMillis;
+        Slot<K> slot = slots[(int) (index % slots.length)];
+        synchronized (slot) {
+            if (slot.index != index) {
+                slot.sketch.clear();
+                slot.index = index;
+            }
+            slot.sketch.offer(key);
+        }
+    }
+
+    public List<Map.Entry<K, Long>> top(int windowSlots, int limit) {
+        long current = clock.getAsLong() / slotMillis;
+        long oldest = current - Math.min(windowSlots, slots.length) + 1;
+
+        Map<K, Long> totals = new HashMap<>();
+        for (Slot<K> slot : slots) {
+            synchronized (slot) {
+                if (slot.index >= oldest && slot.index <= current) {
+                    slot.sketch.addTo(totals);
+                }
+            }
+        }
+
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    private static final class Slot<K> {
+        private final SpaceSavingSketch<K> sketch;
+        private long index = -1;
+
+        private Slot(int capacity) {
+            this.sketch = new SpaceSavingSketch<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.perfume.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public final class SpaceSavingSketch<K> {
+
+    private final int capacity;
+    private final Map<K, Long> counts = new HashMap<>();
+    private final TreeMap<Long, Set<K>> buckets = new TreeMap<>();
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public void offer(K key) {
+        Long count = counts.get(key);
+        if (count != null) {
+            move(key, count, count + 1);
+            return;
+        }
+
+        if (counts.size() < capacity) {
+            counts.put(key, 1L);
+            bucket(1L).add(key);
+            return;
+        }
+
+        Map.Entry<Long, Set<K>> smallest = buckets.firstEntry();
+        Iterator<K> victims = smallest.getValue().iterator();
+        K victim = victims.next();
+        victims.remove();
+        if (smallest.getValue().isEmpty()) {
+            buckets.remove(smallest.getKey());
+        }
+        counts.remove(victim);
+
+        long inherited = smallest.getKey() + 1;
+        counts.put(key, inherited);
+        bucket(inherited).add(key);
+    }
+
+    public void addTo(Map<K, Long> totals) {
+        counts.forEach((key, count) -> totals.merge(key, count, Long::sum));
+    }
+
+    public void clear() {
+        counts.clear();
+        buckets.clear();
+    }
+
+    private void move(K key, long from, long to) {
+        Set<K> source = buckets.get(from);
+        source.remove(key);
+        if (source.isEmpty()) {
+            buckets.remove(from);
+        }
+        counts.put(key, to);
+        bucket(to).add(key);
+    }
+
+    private Set<K> bucket(long count) {
+        return buckets.computeIfAbsent(count, ignored -> new LinkedHashSet<>());
+    }
+}
@@ -0,0 +1,29 @@
+alter table orders
+    add column whatsapp_digits          varchar(255),
+    add column whatsapp_digits_reversed varchar(255);
+
+create function pg_temp.normalize_phone(raw text) returns text
+    language sql
+    immutable as
+$$
+select case
+           when p.digits = '' then nullif(p.trimmed, '')
+           when p.trimmed like '+%' then '+' || p.digits
+           when p.digits like '00%' then '+' || substr(p.digits, 3)
+           when p.digits like '0%' then '+994' || substr(p.digits, 2)
+           when length(p.digits) <= 9 then '+994' || p.digits
+           else '+' || p.digits
+           end
+from (select btrim(raw) as trimmed, regexp_replace(raw, '[^0-9]', '', 'g') as digits) p
+$$;
+
+update users
+set phone_number = pg_temp.normalize_phone(phone_number)
+where phone_number is not null;
+
+update orders
+set whatsapp_number = coalesce(pg_temp.normalize_phone(whatsapp_number), whatsapp_number);
+
+update orders
+set whatsapp_digits          = regexp_replace(whatsapp_number, '[^0-9]', '', 'g'),
+    whatsapp_digits_reversed = reverse(regexp_replace(whatsapp_number, '[^0-9]', '', 'g'));
@@ -0,0 +1,18 @@
+create table customer_stats (
+    user_id            bigint primary key,
+    total_spent        numeric(38, 2) not null,
+    order_count        bigint         not null,
+    active_order_count bigint         not null,
+    last_order_at      timestamp(6),
+    updated_at         timestamp(6)
+);
+
+insert into customer_stats (user_id, total_spent, order_count, active_order_count, last_order_at, updated_at)
+select o.user_id,
+       coalesce(sum(o.total_amount) filter (where o.status <> 'CANCELLED'), 0),
+       count(*),
+       count(*) filter (where o.status <> 'CANCELLED'),
+       max(o.created_at),
+       now()
+from orders o
+group by o.user_id;
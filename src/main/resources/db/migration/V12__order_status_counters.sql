@@ -0,0 +1,10 @@
+create table order_status_counters (
+    status      varchar(255) primary key,
+    order_count bigint not null,
+    updated_at  timestamp(6)
+);
+
+insert into order_status_counters (status, order_count, updated_at)
+select status, count(*), now()
+from orders
+group by status;
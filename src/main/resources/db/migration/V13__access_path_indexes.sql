@@ -0,0 +1,54 @@
+-- Catalog delta sync reads each table by (updated_at, id).
+create index if not exists idx_products_updated_at on products (updated_at, id);
+create index if not exists idx_brands_updated_at on brands (updated_at, id);
+create index if not exists idx_categories_updated_at on categories (updated_at, id);
+create index if not exists idx_catalog_tombstones_deleted_at on catalog_tombstones (deleted_at, entity_type, entity_id);
+
+-- Products: foreign keys, price-range filters, newest-first listing and the selective flag listings.
+create index if not exists idx_products_brand on products (brand_id);
+create index if not exists idx_products_category on products (category_id);
+create index if not exists idx_products_price on products (price);
+create index if not exists idx_products_created_at on products (created_at, id);
+create index if not exists idx_products_featured on products (created_at) where is_featured;
+create index if not exists idx_products_bestseller on products (created_at) where is_bestseller;
+create index if not exists idx_products_discounted on products (discount_percent) where discount_percent > 0;
+
+-- Cart items are looked up by cart through uk_cart_items_cart_perfume; stock and delete paths go by perfume.
+create index if not exists idx_cart_items_perfume on cart_items (perfume_id, cart_id);
+
+-- Favorites: per-user and global keyset listings, and the per-perfume fan-out.
+create index if not exists idx_favorites_user_created on favorites (user_id, created_at, id);
+create index if not exists idx_favorites_created_at on favorites (created_at, id);
+create index if not exists idx_favorites_perfume_user on favorites (perfume_id, user_id);
+
+create index if not exists idx_favorite_alerts_due_at on favorite_alerts (due_at);
+
+drop index if exists idx_favorite_notifications_pending;
+create index idx_favorite_notifications_pending on favorite_notifications (id) where sent_at is null;
+create index if not exists idx_favorite_notifications_perfume on favorite_notifications (perfume_id);
+
+-- Ratings feed per perfume, by recency and by score. Highest-first scans the rating index backwards;
+-- lowest-first keeps newest-first within each score, so it needs its own direction.
+create index if not exists idx_ratings_perfume_created on ratings (perfume_id, created_at, id);
+create index if not exists idx_ratings_perfume_rating_created on ratings (perfume_id, rating, created_at, id);
+create index if not exists idx_ratings_perfume_rating_asc_created_desc on ratings (perfume_id, rating, created_at desc, id desc);
+
+-- Orders: admin search keysets, per-user history and phone lookups.
+drop index if exists idx_orders_whatsapp_created_at;
+create index if not exists idx_orders_created_at on orders (created_at, id);
+create index if not exists idx_orders_status_created_at on orders (status, created_at, id);
+create index if not exists idx_orders_user_created_at on orders (user_id, created_at);
+create index if not exists idx_orders_total_amount on orders (total_amount);
+create index if not exists idx_orders_whatsapp_digits_created_at on orders (whatsapp_digits, created_at, id);
+create index if not exists idx_orders_whatsapp_digits_reversed on orders (whatsapp_digits_reversed);
+
+create index if not exists idx_order_items_order on order_items (order_id);
+create index if not exists idx_order_items_perfume on order_items (perfume_id);
+
+-- Admin user listings.
+create index if not exists idx_users_created_at on users (created_at, id);
+create index if not exists idx_users_role_created_at on users (role, created_at, id);
+
+-- Top customers by either metric.
+create index if not exists idx_customer_stats_order_count on customer_stats (order_count desc, user_id);
+create index if not exists idx_customer_stats_total_spent on customer_stats (total_spent desc, user_id);
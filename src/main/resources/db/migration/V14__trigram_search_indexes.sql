@@ -0,0 +1,21 @@
+do
+$$
+begin
+    create extension if not exists pg_trgm;
+exception
+    when insufficient_privilege or undefined_file then
+        raise notice 'pg_trgm is not available, skipping trigram search indexes';
+end
+$$;
+
+do
+$$
+begin
+    if exists (select 1 from pg_extension where extname = 'pg_trgm') then
+        create index if not exists idx_users_name_trgm on users using gin (lower(name) gin_trgm_ops);
+        create index if not exists idx_users_email_trgm on users using gin (lower(email) gin_trgm_ops);
+        create index if not exists idx_products_name_trgm on products using gin (lower(name) gin_trgm_ops);
+        create index if not exists idx_orders_whatsapp_digits_trgm on orders using gin (whatsapp_digits gin_trgm_ops);
+    end if;
+end
+$$;
@@ -0,0 +1,124 @@
+create table users (
+    id                             bigint generated by default as identity primary key,
+    name                           varchar(255) not null,
+    email                          varchar(255) not null,
+    password                       varchar(255) not null,
+    phone_number                   varchar(255),
+    created_at                     timestamp(6),
+    updated_at                     timestamp(6),
+    is_google_user                 boolean      not null default false,
+    role                           varchar(255) not null,
+    is_verified                    boolean      not null default false,
+    verification_code              varchar(255),
+    verification_code_expires_at   timestamp(6),
+    password_reset_code            varchar(255),
+    password_reset_code_expires_at timestamp(6),
+    constraint uk_users_email unique (email)
+);
+
+create table brands (
+    id          bigint generated by default as identity primary key,
+    name        varchar(255) not null,
+    description text,
+    logo_url    varchar(255),
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    constraint uk_brands_name unique (name)
+);
+
+create table categories (
+    id          bigint generated by default as identity primary key,
+    name        varchar(255) not null,
+    description text,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    constraint uk_categories_name unique (name)
+);
+
+create table products (
+    id               bigint generated by default as identity primary key,
+    name             varchar(255)   not null,
+    description      text,
+    price            numeric(38, 2) not null,
+    image_url        varchar(255),
+    stock_quantity   integer,
+    created_at       timestamp(6),
+    updated_at       timestamp(6),
+    brand_id         bigint         not null,
+    category_id      bigint         not null,
+    is_featured      boolean        not null default false,
+    is_bestseller    boolean        not null default false,
+    discount_percent integer,
+    fragrance_family varchar(255)   not null,
+    gender           varchar(255)   not null,
+    volume           varchar(255)   not null,
+    average_rating   float(53),
+    rating_count     bigint,
+    constraint fk_products_brand foreign key (brand_id) references brands (id),
+    constraint fk_products_category foreign key (category_id) references categories (id)
+);
+
+create table carts (
+    id         bigint generated by default as identity primary key,
+    user_id    bigint not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint uk_carts_user unique (user_id),
+    constraint fk_carts_user foreign key (user_id) references users (id)
+);
+
+create table cart_items (
+    id         bigint generated by default as identity primary key,
+    cart_id    bigint  not null,
+    perfume_id bigint  not null,
+    quantity   integer not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint fk_cart_items_cart foreign key (cart_id) references carts (id),
+    constraint fk_cart_items_product foreign key (perfume_id) references products (id)
+);
+
+create table favorites (
+    id         bigint generated by default as identity primary key,
+    user_id    bigint not null,
+    perfume_id bigint not null,
+    created_at timestamp(6),
+    constraint fk_favorites_user foreign key (user_id) references users (id),
+    constraint fk_favorites_product foreign key (perfume_id) references products (id)
+);
+
+create table ratings (
+    id         bigint generated by default as identity primary key,
+    user_id    bigint  not null,
+    perfume_id bigint  not null,
+    rating     integer not null,
+    comment    text,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint uk_ratings_user_perfume unique (user_id, perfume_id),
+    constraint fk_ratings_user foreign key (user_id) references users (id),
+    constraint fk_ratings_product foreign key (perfume_id) references products (id)
+);
+
+create table orders (
+    id               bigint generated by default as identity primary key,
+    user_id          bigint         not null,
+    total_amount     numeric(38, 2) not null,
+    created_at       timestamp(6),
+    updated_at       timestamp(6),
+    status           varchar(255)   not null,
+    whatsapp_number  varchar(255)   not null,
+    delivery_address varchar(255),
+    customer_notes   text,
+    constraint fk_orders_user foreign key (user_id) references users (id)
+);
+
+create table order_items (
+    id         bigint generated by default as identity primary key,
+    order_id   bigint         not null,
+    perfume_id bigint         not null,
+    quantity   integer        not null,
+    unit_price numeric(38, 2) not null,
+    constraint fk_order_items_order foreign key (order_id) references orders (id),
+    constraint fk_order_items_product foreign key (perfume_id) references products (id)
+);
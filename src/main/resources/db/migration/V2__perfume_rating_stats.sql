@@ -0,0 +1,34 @@
+alter table products
+    add column rating_sum       bigint default 0,
+    add column one_star_count   bigint default 0,
+    add column two_star_count   bigint default 0,
+    add column three_star_count bigint default 0,
+    add column four_star_count  bigint default 0,
+    add column five_star_count  bigint default 0;
+
+-- Seed the running sum and histogram from existing ratings so later deltas start from the true totals.
+update products p
+set rating_sum       = s.total,
+    rating_count     = s.cnt,
+    one_star_count   = s.c1,
+    two_star_count   = s.c2,
+    three_star_count = s.c3,
+    four_star_count  = s.c4,
+    five_star_count  = s.c5,
+    average_rating   = round(cast(s.total as numeric) / s.cnt, 1)
+from (select r.perfume_id,
+             sum(r.rating)                        as total,
+             count(*)                             as cnt,
+             count(*) filter (where r.rating = 1) as c1,
+             count(*) filter (where r.rating = 2) as c2,
+             count(*) filter (where r.rating = 3) as c3,
+             count(*) filter (where r.rating = 4) as c4,
+             count(*) filter (where r.rating = 5) as c5
+      from ratings r
+      group by r.perfume_id) s
+where p.id = s.perfume_id;
+
+update products
+set rating_count   = 0,
+    average_rating = 0
+where not exists (select 1 from ratings r where r.perfume_id = products.id);
@@ -0,0 +1,15 @@
+create table rating_eligibility (
+    id               bigint generated by default as identity primary key,
+    user_id          bigint  not null,
+    perfume_id       bigint  not null,
+    delivered_orders integer not null,
+    created_at       timestamp(6),
+    constraint uk_rating_eligibility_user_perfume unique (user_id, perfume_id)
+);
+
+insert into rating_eligibility (user_id, perfume_id, delivered_orders, created_at)
+select o.user_id, oi.perfume_id, count(distinct o.id), now()
+from orders o
+         join order_items oi on oi.order_id = o.id
+where o.status = 'DELIVERED'
+group by o.user_id, oi.perfume_id;
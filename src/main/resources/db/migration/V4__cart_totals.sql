@@ -0,0 +1,14 @@
+alter table carts
+    add column item_count  integer default 0,
+    add column items_total numeric(38, 2) default 0;
+
+update carts c
+set item_count  = s.item_count,
+    items_total = s.items_total
+from (select ci.cart_id,
+             sum(ci.quantity) as item_count,
+             sum(round(p.price * (100 - coalesce(p.discount_percent, 0)) / 100.0, 2) * ci.quantity) as items_total
+      from cart_items ci
+               join products p on p.id = ci.perfume_id
+      group by ci.cart_id) s
+where c.id = s.cart_id;
@@ -0,0 +1,17 @@
+-- Fold duplicate lines for the same perfume into the oldest line before enforcing one line per perfume.
+update cart_items ci
+set quantity = d.quantity
+from (select min(id) as keep_id, sum(quantity) as quantity
+      from cart_items
+      group by cart_id, perfume_id
+      having count(*) > 1) d
+where ci.id = d.keep_id;
+
+delete from cart_items ci
+using cart_items keep
+where keep.cart_id = ci.cart_id
+  and keep.perfume_id = ci.perfume_id
+  and keep.id < ci.id;
+
+alter table cart_items
+    add constraint uk_cart_items_cart_perfume unique (cart_id, perfume_id);
@@ -0,0 +1,9 @@
+-- Keep the oldest favorite of each duplicated (user, perfume) pair before enforcing uniqueness.
+delete from favorites f
+using favorites keep
+where keep.user_id = f.user_id
+  and keep.perfume_id = f.perfume_id
+  and keep.id < f.id;
+
+alter table favorites
+    add constraint uk_favorites_user_perfume unique (user_id, perfume_id);
@@ -0,0 +1,23 @@
+create table favorite_alerts (
+    id           bigint generated by default as identity primary key,
+    perfume_id   bigint       not null,
+    type         varchar(255) not null,
+    due_at       timestamp(6) not null,
+    last_user_id bigint       not null,
+    version      bigint       not null,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    constraint uk_favorite_alerts_perfume_type unique (perfume_id, type)
+);
+
+create table favorite_notifications (
+    id               bigint generated by default as identity primary key,
+    user_id          bigint       not null,
+    perfume_id       bigint       not null,
+    type             varchar(255) not null,
+    discount_percent integer,
+    attempts         integer      not null,
+    created_at       timestamp(6),
+    sent_at          timestamp(6),
+    constraint uk_favorite_notifications_user_perfume_type unique (user_id, perfume_id, type)
+);
@@ -0,0 +1,7 @@
+create table catalog_tombstones (
+    id          bigint generated by default as identity primary key,
+    entity_type varchar(255) not null,
+    entity_id   bigint       not null,
+    deleted_at  timestamp(6) not null,
+    constraint uk_catalog_tombstones_entity unique (entity_type, entity_id)
+);
@@ -0,0 +1,14 @@
+alter table order_items
+    add column perfume_name varchar(255),
+    add column brand_name   varchar(255),
+    add column volume       varchar(255),
+    add column image_url    varchar(255);
+
+update order_items oi
+set perfume_name = p.name,
+    brand_name   = b.name,
+    volume       = p.volume,
+    image_url    = p.image_url
+from products p
+         join brands b on b.id = p.brand_id
+where p.id = oi.perfume_id;
@@ -0,0 +1,59 @@
+package org.perfume.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.perfume.support.TestCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+
+import static org.perfume.monitoring.QueryBudget.assertMaxQueries;
+import static org.perfume.monitoring.QueryBudget.assertNoRepeatedQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PerfumeEndpointQueryBudgetTest {
+
+    private static final int PERFUMES = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestCatalog catalog;
+
+    private String token;
+    private Long perfumeId;
+
+    @BeforeEach
+    void setUp() {
+        token = catalog.getToken();
+        for (int i = 0; i < PERFUMES; i++) {
+            perfumeId = catalog.perfume("Budget " + i, 10).getId();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanup();
+    }
+
+    @Test
+    void searchLoadsBrandsAndCategoriesWithoutPerRowQueries() throws Throwable {
+        assertMaxQueries("GET /api/perfumes/search", 3, () ->
+                mockMvc.perform(get("/api/perfumes/search").param("name", token)).andExpect(status().isOk()));
+        assertNoRepeatedQueries("GET /api/perfumes/search", 1, () ->
+                mockMvc.perform(get("/api/perfumes/search").param("name", token)).andExpect(status().isOk()));
+    }
+
+    @Test
+    void perfumeDetailStaysWithinBudget() throws Throwable {
+        assertMaxQueries("GET /api/perfumes/{id}", 2, () ->
+                mockMvc.perform(get("/api/perfumes/{id}", perfumeId)).andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,97 @@
+package org.perfume.domain.repo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.perfume.domain.entity.User;
+import org.perfume.model.dto.request.OrderSearchRequest;
+import org.perfume.model.dto.response.OrderSummaryResponse;
+import org.perfume.model.enums.PhoneMatchMode;
+import org.perfume.support.TestCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class OrderSearchDaoTest {
+
+    private static final LocalDateTime SEARCH_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private OrderSearchDao orderSearchDao;
+
+    @Autowired
+    private TestCatalog catalog;
+
+    private LocalDateTime seededFrom;
+    private Long matchingOrderId;
+    private Long otherOrderId;
+
+    @BeforeEach
+    void setUp() {
+        seededFrom = LocalDateTime.now().minusMinutes(1);
+        User user = catalog.user("Phone Tester");
+        matchingOrderId = catalog.order(user, "+994 50 123 01 23").getId();
+        otherOrderId = catalog.order(user, "+994 55 999 88 77").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanup();
+    }
+
+    @Test
+    void exactMatchNormalizesLocalNumbers() {
+        assertMatches(PhoneMatchMode.EXACT, "050 123 01 23");
+        assertNoMatch(PhoneMatchMode.EXACT, "0123");
+    }
+
+    @Test
+    void suffixKeepsTheTypedLeadingZero() {
+        assertMatches(PhoneMatchMode.SUFFIX, "0123");
+        assertMatches(PhoneMatchMode.SUFFIX, "01 23");
+        assertNoMatch(PhoneMatchMode.SUFFIX, "0124");
+    }
+
+    @Test
+    void suffixAlsoMatchesLocalFormatNumbers() {
+        assertMatches(PhoneMatchMode.SUFFIX, "050 123 01 23");
+    }
+
+    @Test
+    void partialKeepsTheTypedLeadingZero() {
+        assertMatches(PhoneMatchMode.PARTIAL, "0123");
+        assertMatches(PhoneMatchMode.PARTIAL, "01230");
+        assertNoMatch(PhoneMatchMode.PARTIAL, "0999");
+    }
+
+    @Test
+    void partialAlsoMatchesLocalFormatPrefixes() {
+        assertMatches(PhoneMatchMode.PARTIAL, "050 123");
+    }
+
+    private void assertMatches(PhoneMatchMode mode, String phone) {
+        List<Long> ids = search(mode, phone);
+        assertTrue(ids.contains(matchingOrderId), mode + " '" + phone + "' did not find the order: " + ids);
+        assertFalse(ids.contains(otherOrderId), mode + " '" + phone + "' also found an unrelated order");
+    }
+
+    private void assertNoMatch(PhoneMatchMode mode, String phone) {
+        assertFalse(search(mode, phone).contains(matchingOrderId), mode + " '" + phone + "' should not match");
+    }
+
+    private List<Long> search(PhoneMatchMode mode, String phone) {
+        OrderSearchRequest request = new OrderSearchRequest();
+        request.setPhone(phone);
+        request.setPhoneMatch(mode);
+        request.setFrom(seededFrom);
+        return orderSearchDao.search(request, SEARCH_START, Long.MAX_VALUE, 1000).stream()
+                .map(OrderSummaryResponse::getId)
+                .toList();
+    }
+}
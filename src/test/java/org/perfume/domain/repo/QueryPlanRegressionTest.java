@@ -0,0 +1,492 @@
+package org.perfume.domain.repo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.perfume.model.enums.FragranceFamily;
+import org.perfume.model.enums.Gender;
+import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.Volume;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(QueryPlanRegressionTest.RecordingConfig.class)
+class QueryPlanRegressionTest {
+
+    private static final long MIN_TABLE_ROWS = 1_000;
+    private static final double SELECTIVE_FRACTION = 0.01;
+
+    private static final int USERS = 10_000;
+    private static final int BRANDS = 100;
+    private static final int CATEGORIES = 20;
+    private static final int PRODUCTS = 10_000;
+    private static final int ORDERS = 30_000;
+    private static final int ORDER_ITEMS = 60_000;
+    private static final int FAVORITES = 30_000;
+    private static final int RATINGS = 20_000;
+    private static final int CART_ITEMS = 20_000;
+    private static final int NOTIFICATIONS = 10_000;
+    private static final int TOMBSTONES = 2_000;
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final Set<String> FULL_SCAN_BY_DESIGN = Set.of(
+            "CartItemDao.findMostAddedProducts",
+            "FavoriteDao.findMostFavoritedProducts",
+            "OrderDao.findLatestOrders",
+            "OrderItemDao.findBestSellingProducts",
+            "OrderItemDao.findSalesByBrand",
+            "OrderStatusCounterDao.reconcileFromOrders",
+            "PerfumeDao.findInStockQuantity",
+            "PerfumeDao.findLatestPerfumes");
+
+    private static final StatementRecorder RECORDER = new StatementRecorder();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void repositoryQueriesDoNotSeqScanLargeTables() {
+        List<String> offenders = new ArrayList<>();
+        List<String> unexplained = new ArrayList<>();
+
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        outer.executeWithoutResult(status -> {
+            seed();
+            Map<String, Long> tableRows = tableRows();
+
+            TransactionTemplate nested = new TransactionTemplate(transactionManager);
+            nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+            for (Class<?> repository : repositoryInterfaces()) {
+                Object bean = applicationContext.getBean(repository);
+                for (Method method : queryMethods(repository)) {
+                    String name = repository.getSimpleName() + "." + method.getName();
+                    List<RecordedStatement> statements = record(nested, bean, method);
+                    if (statements.isEmpty()) {
+                        unexplained.add(name);
+                        continue;
+                    }
+                    if (FULL_SCAN_BY_DESIGN.contains(name)) {
+                        continue;
+                    }
+                    for (RecordedStatement statement : statements) {
+                        offenders.addAll(seqScans(name, statement, tableRows));
+                    }
+                }
+            }
+
+            status.setRollbackOnly();
+        });
+
+        assertTrue(unexplained.isEmpty(), "No SQL was captured for: " + unexplained);
+        assertTrue(offenders.isEmpty(), "Sequential scans on large tables:\n" + String.join("\n", offenders));
+    }
+
+    private List<RecordedStatement> record(TransactionTemplate nested, Object bean, Method method) {
+        Object[] arguments = Arrays.stream(method.getParameters()).map(this::argumentFor).toArray();
+        RECORDER.start();
+        try {
+            nested.executeWithoutResult(status -> {
+                try {
+                    method.invoke(bean, arguments);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (RuntimeException ignored) {
+        } finally {
+            RECORDER.stop();
+            entityManager.clear();
+        }
+        return RECORDER.drain();
+    }
+
+    private List<String> seqScans(String name, RecordedStatement statement, Map<String, Long> tableRows) {
+        JsonNode plan = explain(statement);
+        long resultRows = resultRows(plan);
+
+        List<JsonNode> scans = new ArrayList<>();
+        collectSeqScans(plan, scans);
+
+        List<String> offenders = new ArrayList<>();
+        for (JsonNode scan : scans) {
+            String relation = scan.path("Relation Name").asText();
+            long rows = tableRows.getOrDefault(relation, 0L);
+            if (rows >= MIN_TABLE_ROWS && resultRows < rows * SELECTIVE_FRACTION) {
+                offenders.add(String.format("%s: seq scan on %s (%d rows) for ~%d result rows%n    %s",
+                        name, relation, rows, resultRows, statement.sql()));
+            }
+        }
+        return offenders;
+    }
+
+    private JsonNode explain(RecordedStatement statement) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement explain = connection.prepareStatement("explain (format json) " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.method().invoke(explain, binding.arguments());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not explain: " + statement.sql(), e);
+        }
+    }
+
+    private long resultRows(JsonNode plan) {
+        if ("ModifyTable".equals(plan.path("Node Type").asText()) && plan.has("Plans")) {
+            return plan.get("Plans").get(0).path("Plan Rows").asLong();
+        }
+        return plan.path("Plan Rows").asLong();
+    }
+
+    private void collectSeqScans(JsonNode node, List<JsonNode> scans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            scans.add(node);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, scans);
+        }
+    }
+
+    private Object argumentFor(Parameter parameter) {
+        Param param = parameter.getAnnotation(Param.class);
+        String name = param != null ? param.value() : parameter.getName();
+        Class<?> type = parameter.getType();
+
+        if (Pageable.class.isAssignableFrom(type)) {
+            return PageRequest.of(0, 20);
+        }
+        if (type == Long.class || type == long.class) {
+            return name.startsWith("after") ? 0L : 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return switch (name) {
+                case "limit" -> 100;
+                case "maxAttempts", "rating", "newRating", "oldRating" -> 5;
+                default -> 1;
+            };
+        }
+        if (type == String.class) {
+            return switch (name) {
+                case "status" -> OrderStatus.PENDING.name();
+                case "type" -> "PRICE_DROP";
+                case "afterType" -> "";
+                default -> "zzq";
+            };
+        }
+        if (type == LocalDateTime.class) {
+            return switch (name) {
+                case "createdAt", "afterCreatedAt" -> KEYSET_START;
+                case "since" -> LocalDateTime.now().minusMinutes(1);
+                case "before" -> LocalDateTime.now().minusYears(1);
+                default -> LocalDateTime.now();
+            };
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal("1000000");
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L, 2L, 3L);
+        }
+        return null;
+    }
+
+    private List<Class<?>> repositoryInterfaces() {
+        Set<Class<?>> repositories = new TreeSet<>(Comparator.comparing(Class::getName));
+        for (String beanName : applicationContext.getBeanNamesForType(Repository.class)) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null) {
+                continue;
+            }
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getPackageName().equals(QueryPlanRegressionTest.class.getPackageName())) {
+                    repositories.add(candidate);
+                }
+            }
+        }
+        return new ArrayList<>(repositories);
+    }
+
+    private List<Method> queryMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .sorted(Comparator.comparing(Method::getName))
+                .toList();
+    }
+
+    private Map<String, Long> tableRows() {
+        Map<String, Long> rows = new HashMap<>();
+        jdbcTemplate.query("select relname, reltuples::bigint from pg_class where relkind = 'r' and relnamespace = 'public'::regnamespace",
+                (ResultSet rs) -> {
+                    rows.put(rs.getString(1), rs.getLong(2));
+                });
+        return rows;
+    }
+
+    private void seed() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+
+        jdbcTemplate.update("insert into users (name, email, password, phone_number, created_at, updated_at, " +
+                        "is_google_user, role, is_verified) " +
+                        "select 'Plan User ' || i, 'plan-' || ? || '-' || i || '@test.local', 'x', " +
+                        "'+99450' || lpad(i::text, 7, '0'), now() - i * interval '1 minute', now() - i * interval '1 minute', " +
+                        "false, case when i % 500 = 0 then 'ADMIN' else 'USER' end, true " +
+                        "from generate_series(1, ?) i",
+                run, USERS);
+        long userBase = jdbcTemplate.queryForObject("select min(id) from users where email like ?", Long.class,
+                "plan-" + run + "-%");
+
+        jdbcTemplate.update("insert into brands (name, created_at, updated_at) " +
+                "select 'plan-' || ? || '-brand-' || i, now() - interval '30 days', now() - interval '30 days' " +
+                "from generate_series(1, ?) i", run, BRANDS);
+        long brandBase = jdbcTemplate.queryForObject("select min(id) from brands where name like ?", Long.class,
+                "plan-" + run + "-%");
+
+        jdbcTemplate.update("insert into categories (name, created_at, updated_at) " +
+                "select 'plan-' || ? || '-category-' || i, now() - interval '30 days', now() - interval '30 days' " +
+                "from generate_series(1, ?) i", run, CATEGORIES);
+        long categoryBase = jdbcTemplate.queryForObject("select min(id) from categories where name like ?", Long.class,
+                "plan-" + run + "-%");
+
+        jdbcTemplate.update("insert into products (name, description, price, stock_quantity, created_at, updated_at, " +
+                        "brand_id, category_id, is_featured, is_bestseller, discount_percent, fragrance_family, gender, volume, " +
+                        "average_rating, rating_count, rating_sum, one_star_count, two_star_count, three_star_count, " +
+                        "four_star_count, five_star_count) " +
+                        "select 'plan-' || ? || '-perfume-' || i, 'Seeded perfume ' || i, 50 + i % 200, " +
+                        "case when i % 4 = 0 then 0 else 10 + i % 40 end, " +
+                        "now() - interval '30 days' - i * interval '1 minute', now() - interval '30 days' - i * interval '1 minute', " +
+                        "? + i % ?, ? + i % ?, i % 200 = 0, i % 250 = 0, case when i % 150 = 0 then 15 else 0 end, " +
+                        "?, ?, ?, 0, 0, 0, 0, 0, 0, 0, 0 " +
+                        "from generate_series(1, ?) i",
+                run, brandBase, BRANDS, categoryBase, CATEGORIES,
+                FragranceFamily.values()[0].name(), Gender.values()[0].name(), Volume.ML_50.name(), PRODUCTS);
+        long productBase = jdbcTemplate.queryForObject("select min(id) from products where name like ?", Long.class,
+                "plan-" + run + "-%");
+
+        jdbcTemplate.update("insert into carts (user_id, item_count, items_total, created_at, updated_at) " +
+                "select ? + i, 2, 100, now(), now() from generate_series(0, ? - 1) i", userBase, USERS);
+        long cartBase = jdbcTemplate.queryForObject("select min(id) from carts where user_id >= ?", Long.class, userBase);
+
+        jdbcTemplate.update("insert into cart_items (cart_id, perfume_id, quantity, created_at, updated_at) " +
+                        "select ? + i % ?, ? + (i * 7 + i / ?) % ?, 1, now(), now() from generate_series(1, ?) i " +
+                        "on conflict do nothing",
+                cartBase, USERS, productBase, USERS, PRODUCTS, CART_ITEMS);
+
+        jdbcTemplate.update("insert into favorites (user_id, perfume_id, created_at) " +
+                        "select ? + i % ?, ? + (i * 13 + i / ?) % ?, now() - i * interval '1 minute' " +
+                        "from generate_series(1, ?) i on conflict do nothing",
+                userBase, USERS, productBase, USERS, PRODUCTS, FAVORITES);
+
+        jdbcTemplate.update("insert into ratings (user_id, perfume_id, rating, comment, created_at, updated_at) " +
+                        "select ? + i % ?, ? + (i * 17 + i / ?) % ?, 1 + i % 5, 'Seeded', " +
+                        "now() - i * interval '1 minute', now() - i * interval '1 minute' " +
+                        "from generate_series(1, ?) i on conflict do nothing",
+                userBase, USERS, productBase, USERS, PRODUCTS, RATINGS);
+
+        jdbcTemplate.update("insert into rating_eligibility (user_id, perfume_id, delivered_orders, created_at) " +
+                        "select ? + i % ?, ? + (i * 17 + i / ?) % ?, 1, now() " +
+                        "from generate_series(1, ?) i on conflict do nothing",
+                userBase, USERS, productBase, USERS, PRODUCTS, RATINGS);
+
+        jdbcTemplate.update("insert into orders (user_id, total_amount, created_at, updated_at, status, whatsapp_number, " +
+                        "whatsapp_digits, whatsapp_digits_reversed, delivery_address) " +
+                        "select ? + i % ?, 100 + i % 900, now() - i * interval '5 minutes', now() - i * interval '5 minutes', " +
+                        "case when i % 200 = 0 then 'PENDING' when i % 200 = 1 then 'CONFIRMED' " +
+                        "when i % 200 = 2 then 'SHIPPED' when i % 50 = 3 then 'CANCELLED' else 'DELIVERED' end, " +
+                        "'+99455' || lpad(i::text, 7, '0'), '99455' || lpad(i::text, 7, '0'), " +
+                        "reverse('99455' || lpad(i::text, 7, '0')), 'Baku' " +
+                        "from generate_series(1, ?) i",
+                userBase, USERS, ORDERS);
+        long orderBase = jdbcTemplate.queryForObject("select min(id) from orders where user_id >= ? and delivery_address = 'Baku'",
+                Long.class, userBase);
+
+        jdbcTemplate.update("insert into order_items (order_id, perfume_id, quantity, unit_price, perfume_name, brand_name, volume) " +
+                        "select ? + i % ?, ? + (i * 11) % ?, 1 + i % 3, 50, 'Seeded perfume', 'Seeded brand', ? " +
+                        "from generate_series(1, ?) i",
+                orderBase, ORDERS, productBase, PRODUCTS, Volume.ML_50.name(), ORDER_ITEMS);
+
+        jdbcTemplate.update("insert into customer_stats (user_id, total_spent, order_count, active_order_count, last_order_at, updated_at) " +
+                        "select ? + i, 300, 3, case when i % 10 = 0 then 1 else 0 end, now(), now() " +
+                        "from generate_series(0, ? - 1) i on conflict do nothing",
+                userBase, USERS);
+
+        jdbcTemplate.update("insert into favorite_notifications (user_id, perfume_id, type, discount_percent, attempts, created_at, sent_at) " +
+                        "select ? + i % ?, ? + i % ?, 'PRICE_DROP', 10, 0, now(), case when i % 100 = 0 then null else now() end " +
+                        "from generate_series(1, ?) i on conflict do nothing",
+                userBase, USERS, productBase, PRODUCTS, NOTIFICATIONS);
+
+        jdbcTemplate.update("insert into catalog_tombstones (entity_type, entity_id, deleted_at) " +
+                        "select 'PERFUME', ? + i, now() - interval '10 days' - i * interval '1 minute' " +
+                        "from generate_series(1, ?) i on conflict do nothing",
+                Long.MAX_VALUE / 2, TOMBSTONES);
+
+        for (String table : List.of("users", "brands", "categories", "products", "carts", "cart_items", "favorites",
+                "ratings", "rating_eligibility", "orders", "order_items", "customer_stats", "favorite_notifications",
+                "catalog_tombstones")) {
+            jdbcTemplate.execute("analyze " + table);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? RECORDER.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    record Binding(Method method, Object[] arguments) {
+    }
+
+    record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    static class StatementRecorder {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        void start() {
+            statements.clear();
+            recording = true;
+        }
+
+        void stop() {
+            recording = false;
+        }
+
+        List<RecordedStatement> drain() {
+            List<RecordedStatement> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+
+        DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target, (method, args, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private Connection wrap(Connection target) {
+            return proxy(Connection.class, target, (method, args, result) -> {
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return wrap(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement target, String sql) {
+            Map<Integer, Binding> bindings = new TreeMap<>();
+            return proxy(PreparedStatement.class, target, (method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    bindings.put(index, new Binding(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if (recording && (args == null || args.length == 0)
+                        && (name.startsWith("execute") || name.equals("addBatch"))) {
+                    statements.add(new RecordedStatement(sql, new ArrayList<>(bindings.values())));
+                }
+            }, (method, args, result) -> result);
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+            return proxy(type, target, (method, args) -> {
+            }, handler);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, CallHandler before, ResultHandler after) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> {
+                before.handle(method, args);
+                try {
+                    return after.handle(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private interface CallHandler {
+            void handle(Method method, Object[] args);
+        }
+
+        private interface ResultHandler {
+            Object handle(Method method, Object[] args, Object result);
+        }
+    }
+}
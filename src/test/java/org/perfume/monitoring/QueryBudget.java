@@ -0,0 +1,40 @@
+package org.perfume.monitoring;
+
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static QueryStats measure(Executable action) throws Throwable {
+        QueryStats stats = QueryStats.begin();
+        try {
+            action.execute();
+        } finally {
+            stats.end();
+        }
+        return stats;
+    }
+
+    public static QueryStats assertMaxQueries(String endpoint, int maxStatements, Executable action) throws Throwable {
+        QueryStats stats = measure(action);
+        assertTrue(stats.getStatements() <= maxStatements, () -> String.format(
+                "%s ran %d statements (%d entity loads, %d collection loads), budget is %d; repeated: %s",
+                endpoint, stats.getStatements(), stats.getEntityLoads(), stats.getCollectionLoads(), maxStatements,
+                stats.repeatedShapes(2)));
+        return stats;
+    }
+
+    public static QueryStats assertNoRepeatedQueries(String endpoint, int maxRepeats, Executable action) throws Throwable {
+        QueryStats stats = measure(action);
+        Map<String, Integer> repeated = stats.repeatedShapes(maxRepeats + 1);
+        assertTrue(repeated.isEmpty(), () -> String.format(
+                "%s repeated statements more than %d times: %s", endpoint, maxRepeats, repeated));
+        return stats;
+    }
+}
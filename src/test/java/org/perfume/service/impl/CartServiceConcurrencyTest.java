@@ -0,0 +1,141 @@
+package org.perfume.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.perfume.domain.entity.CartItem;
+import org.perfume.domain.repo.CartDao;
+import org.perfume.domain.repo.CartItemDao;
+import org.perfume.domain.repo.PerfumeDao;
+import org.perfume.domain.view.CartLineView;
+import org.perfume.model.dto.request.CartItemRequest;
+import org.perfume.service.CartService;
+import org.perfume.service.CartStore;
+import org.perfume.support.TestCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CartServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ADDS_PER_THREAD = 25;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private DatabaseCartStore databaseCartStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PerfumeDao perfumeDao;
+
+    @Autowired
+    private CartDao cartDao;
+
+    @Autowired
+    private CartItemDao cartItemDao;
+
+    @Autowired
+    private TestCatalog catalog;
+
+    private Long userId;
+    private Long perfumeId;
+
+    @BeforeEach
+    void setUp() {
+        userId = catalog.user("Cart Tester").getId();
+        perfumeId = catalog.perfume("Perfume", THREADS * ADDS_PER_THREAD * 2).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanup();
+    }
+
+    @Test
+    void concurrentAddsThroughCartServiceCreateOneCartAndLoseNoUpdates() throws Exception {
+        hammer(() -> cartService.addToCart(userId, new CartItemRequest(perfumeId, 1)));
+        cartStore.flush(userId);
+
+        assertCartQuantity(THREADS * ADDS_PER_THREAD);
+    }
+
+    @Test
+    void concurrentWritesThroughDatabaseStoreCreateOneCartAndLoseNoUpdates() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        hammer(() -> transactionTemplate.executeWithoutResult(status -> databaseCartStore.write(userId, cart -> {
+            if (cart.find(perfumeId).isPresent()) {
+                cart.updateQuantity(perfumeId, cart.find(perfumeId).get().getQuantity() + 1);
+            } else {
+                cart.put(CartLineView.of(cart.getCartId(), 1, perfumeDao.findByIdWithBrandAndCategory(perfumeId).orElseThrow()));
+            }
+            return null;
+        })));
+
+        assertCartQuantity(THREADS * ADDS_PER_THREAD);
+    }
+
+    private void hammer(Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < ADDS_PER_THREAD; j++) {
+                        action.run();
+                    }
+                    return null;
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+
+        start.countDown();
+        try {
+            assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                    THREADS + " concurrent cart writers did not finish within " + TIMEOUT_SECONDS
+                            + "s; they are probably deadlocked on cart locks or waiting for pooled connections");
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertCartQuantity(int expected) {
+        assertTrue(cartDao.findByUserId(userId).isPresent());
+
+        List<CartItem> items = cartItemDao.findByUserId(userId);
+        assertEquals(1, items.size());
+        assertEquals(expected, items.get(0).getQuantity());
+        assertEquals(expected, cartDao.findBadgeByUserId(userId).orElseThrow().getItemCount());
+    }
+}
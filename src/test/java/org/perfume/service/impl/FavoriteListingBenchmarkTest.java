@@ -0,0 +1,109 @@
+package org.perfume.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.perfume.domain.entity.Favorite;
+import org.perfume.domain.entity.User;
+import org.perfume.domain.repo.FavoriteDao;
+import org.perfume.mapper.FavoriteMapper;
+import org.perfume.model.dto.response.CursorPageResponse;
+import org.perfume.model.dto.response.FavoriteResponse;
+import org.perfume.service.FavoriteService;
+import org.perfume.support.TestCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FavoriteListingBenchmarkTest {
+
+    private static final int FAVORITES = 500;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private FavoriteMapper favoriteMapper;
+
+    @Autowired
+    private FavoriteDao favoriteDao;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestCatalog catalog;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = catalog.user("Favorite Tester");
+        userId = user.getId();
+
+        List<Favorite> favorites = new ArrayList<>();
+        for (int i = 0; i < FAVORITES; i++) {
+            Favorite favorite = new Favorite();
+            favorite.setUser(user);
+            favorite.setPerfume(catalog.perfume("Perfume " + i, 10));
+            favorites.add(favorite);
+        }
+        favoriteDao.saveAll(favorites);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.cleanup();
+    }
+
+    @Test
+    void userFavoritesArePagedWithOneQueryPerPage() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        statistics.clear();
+        List<FavoriteResponse> legacy = transactionTemplate.execute(status ->
+                favoriteDao.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                        .map(favoriteMapper::toDto)
+                        .collect(Collectors.toList()));
+        long legacyStatements = statistics.getPrepareStatementCount();
+        assertEquals(FAVORITES, legacy.size());
+
+        statistics.clear();
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<FavoriteResponse> page = favoriteService.getUserFavorites(userId, cursor, PAGE_SIZE);
+            page.getContent().forEach(favorite -> seen.add(favorite.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        long pagedStatements = statistics.getPrepareStatementCount();
+        assertEquals(FAVORITES, seen.size());
+
+        assertEquals(FAVORITES / PAGE_SIZE, pages);
+        assertTrue(pagedStatements <= pages * 2L,
+                "Expected one existence check and one listing query per page but saw " + pagedStatements);
+        assertTrue(pagedStatements < legacyStatements);
+    }
+}
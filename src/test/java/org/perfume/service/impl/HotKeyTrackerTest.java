@@ -0,0 +1,63 @@
+package org.perfume.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.perfume.exception.InvalidInputException;
+import org.perfume.model.dto.response.HotKeyResponse;
+import org.perfume.model.dto.response.HotKeysResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotKeyTrackerTest {
+
+    private final HotKeyTracker tracker = new HotKeyTracker(15, 50);
+
+    @Test
+    void ranksProductsByViews() {
+        tracker.recordProductView(1L);
+        tracker.recordProductView(2L);
+        tracker.recordProductView(2L);
+        tracker.recordProductView(null);
+
+        assertEquals(List.of(2L, 1L), tracker.getHotProductIds(15, 10));
+    }
+
+    @Test
+    void normalizesSearchTerms() {
+        tracker.recordSearch("  Oud   WOOD ");
+        tracker.recordSearch("oud wood");
+        tracker.recordSearch("   ");
+        tracker.recordSearch(null);
+
+        HotKeysResponse hotKeys = tracker.getHotKeys(15, 10);
+
+        assertEquals(List.of(new HotKeyResponse("oud wood", 2)), hotKeys.getSearches());
+        assertTrue(hotKeys.getProducts().isEmpty());
+    }
+
+    @Test
+    void truncatesLongSearchTerms() {
+        tracker.recordSearch("x".repeat(100));
+
+        assertEquals(64, tracker.getHotKeys(15, 10).getSearches().get(0).getKey().length());
+    }
+
+    @Test
+    void rejectsWindowsAndLimitsOutOfRange() {
+        assertThrows(InvalidInputException.class, () -> tracker.getHotProductIds(0, 10));
+        assertThrows(InvalidInputException.class, () -> tracker.getHotProductIds(16, 10));
+        assertThrows(InvalidInputException.class, () -> tracker.getHotKeys(15, 0));
+        assertThrows(InvalidInputException.class, () -> tracker.getHotKeys(15, 101));
+    }
+
+    @Test
+    void supportsMatchesValidation() {
+        assertTrue(tracker.supports(15, 100));
+        assertFalse(tracker.supports(16, 100));
+        assertFalse(tracker.supports(15, 101));
+    }
+}
@@ -0,0 +1,143 @@
+package org.perfume.support;
+
+import org.perfume.domain.entity.Brand;
+import org.perfume.domain.entity.Category;
+import org.perfume.domain.entity.Order;
+import org.perfume.domain.entity.Perfume;
+import org.perfume.domain.entity.User;
+import org.perfume.domain.repo.BrandDao;
+import org.perfume.domain.repo.CategoryDao;
+import org.perfume.domain.repo.OrderDao;
+import org.perfume.domain.repo.PerfumeDao;
+import org.perfume.domain.repo.UserDao;
+import org.perfume.model.enums.FragranceFamily;
+import org.perfume.model.enums.Gender;
+import org.perfume.model.enums.OrderStatus;
+import org.perfume.model.enums.Volume;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+public class TestCatalog {
+
+    private final UserDao userDao;
+    private final BrandDao brandDao;
+    private final CategoryDao categoryDao;
+    private final PerfumeDao perfumeDao;
+    private final OrderDao orderDao;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final String token = UUID.randomUUID().toString();
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> brandIds = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> perfumeIds = new ArrayList<>();
+    private final List<Long> orderIds = new ArrayList<>();
+
+    public TestCatalog(UserDao userDao,
+                       BrandDao brandDao,
+                       CategoryDao categoryDao,
+                       PerfumeDao perfumeDao,
+                       OrderDao orderDao,
+                       NamedParameterJdbcTemplate jdbcTemplate) {
+        this.userDao = userDao;
+        this.brandDao = brandDao;
+        this.categoryDao = categoryDao;
+        this.perfumeDao = perfumeDao;
+        this.orderDao = orderDao;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail("user-" + userIds.size() + "-" + token + "@test.local");
+        user.setPassword("secret");
+        user = userDao.save(user);
+        userIds.add(user.getId());
+        return user;
+    }
+
+    public Brand brand(String name) {
+        Brand brand = new Brand();
+        brand.setName(name + " " + token);
+        brand = brandDao.save(brand);
+        brandIds.add(brand.getId());
+        return brand;
+    }
+
+    public Category category(String name) {
+        Category category = new Category();
+        category.setName(name + " " + token);
+        category = categoryDao.save(category);
+        categoryIds.add(category.getId());
+        return category;
+    }
+
+    public Perfume perfume(String name, Brand brand, Category category, int stock) {
+        Perfume perfume = new Perfume();
+        perfume.setName(name + " " + token);
+        perfume.setPrice(new BigDecimal("50.00"));
+        perfume.setStockQuantity(stock);
+        perfume.setBrand(brand);
+        perfume.setCategory(category);
+        perfume.setFragranceFamily(FragranceFamily.WOODY);
+        perfume.setGender(Gender.UNISEX);
+        perfume.setVolume(Volume.ML_50);
+        perfume = perfumeDao.save(perfume);
+        perfumeIds.add(perfume.getId());
+        return perfume;
+    }
+
+    public Perfume perfume(String name, int stock) {
+        return perfume(name, brand(name + " Brand"), category(name + " Category"), stock);
+    }
+
+    public Order order(User user, String whatsappNumber) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setTotalAmount(new BigDecimal("50.00"));
+        order.setStatus(OrderStatus.PENDING);
+        order.setWhatsappNumber(whatsappNumber);
+        order = orderDao.save(order);
+        orderIds.add(order.getId());
+        return order;
+    }
+
+    public void cleanup() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", orNone(userIds))
+                .addValue("perfumeIds", orNone(perfumeIds))
+                .addValue("orderIds", orNone(orderIds))
+                .addValue("brandIds", orNone(brandIds))
+                .addValue("categoryIds", orNone(categoryIds));
+
+        jdbcTemplate.update("delete from order_items where order_id in (:orderIds)", params);
+        jdbcTemplate.update("delete from orders where id in (:orderIds)", params);
+        jdbcTemplate.update("delete from cart_items where perfume_id in (:perfumeIds) " +
+                "or cart_id in (select id from carts where user_id in (:userIds))", params);
+        jdbcTemplate.update("delete from carts where user_id in (:userIds)", params);
+        jdbcTemplate.update("delete from favorites where user_id in (:userIds) or perfume_id in (:perfumeIds)", params);
+        jdbcTemplate.update("delete from products where id in (:perfumeIds)", params);
+        jdbcTemplate.update("delete from brands where id in (:brandIds)", params);
+        jdbcTemplate.update("delete from categories where id in (:categoryIds)", params);
+        jdbcTemplate.update("delete from users where id in (:userIds)", params);
+    }
+
+    private List<Long> orNone(List<Long> ids) {
+        return ids.isEmpty() ? List.of(-1L) : ids;
+    }
+}
@@ -0,0 +1,84 @@
+package org.perfume.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingHeavyHittersTest {
+
+    private static final long MINUTE = 60_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private SlidingHeavyHitters<String> hitters;
+
+    @BeforeEach
+    void setUp() {
+        now.set(10 * MINUTE);
+        hitters = new SlidingHeavyHitters<>(3, Duration.ofMinutes(1), 10, now::get);
+    }
+
+    @Test
+    void mergesCountsAcrossTheRequestedWindow() {
+        offer("a", 2);
+        now.addAndGet(MINUTE);
+        offer("a", 1);
+        offer("b", 1);
+
+        assertEquals(List.of(Map.entry("a", 3L), Map.entry("b", 1L)), hitters.top(3, 10));
+        assertEquals(Map.of("a", 1L, "b", 1L), asMap(hitters.top(1, 10)));
+    }
+
+    @Test
+    void slotsOlderThanTheWindowAreIgnored() {
+        offer("a", 5);
+        now.addAndGet(2 * MINUTE);
+        offer("b", 1);
+
+        assertEquals(List.of(Map.entry("b", 1L)), hitters.top(2, 10));
+        assertEquals(Map.of("a", 5L, "b", 1L), asMap(hitters.top(3, 10)));
+    }
+
+    @Test
+    void reusedSlotStartsFromZero() {
+        offer("a", 5);
+        now.addAndGet(3 * MINUTE);
+        offer("a", 1);
+
+        assertEquals(List.of(Map.entry("a", 1L)), hitters.top(3, 10));
+    }
+
+    @Test
+    void windowIsCappedAtTheSlotCount() {
+        offer("a", 1);
+        now.addAndGet(2 * MINUTE);
+        offer("b", 1);
+
+        assertEquals(2, hitters.top(60, 10).size());
+    }
+
+    @Test
+    void topIsOrderedByCountAndLimited() {
+        offer("a", 1);
+        offer("b", 3);
+        offer("c", 2);
+
+        assertEquals(List.of(Map.entry("b", 3L), Map.entry("c", 2L)), hitters.top(1, 2));
+    }
+
+    private Map<String, Long> asMap(List<Map.Entry<String, Long>> entries) {
+        return entries.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private void offer(String key, int times) {
+        for (int i = 0; i < times; i++) {
+            hitters.offer(key);
+        }
+    }
+}
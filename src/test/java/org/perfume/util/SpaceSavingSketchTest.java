@@ -0,0 +1,91 @@
+package org.perfume.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    void countsExactlyWhileUnderCapacity() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(3);
+        sketch.offer("a");
+        sketch.offer("a");
+        sketch.offer("a");
+        sketch.offer("b");
+
+        assertEquals(Map.of("a", 3L, "b", 1L), totals(sketch));
+    }
+
+    @Test
+    void newKeyEvictsTheSmallestCountAndInheritsIt() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+        sketch.offer("a");
+        sketch.offer("a");
+        sketch.offer("a");
+        sketch.offer("b");
+        sketch.offer("b");
+        sketch.offer("c");
+
+        assertEquals(Map.of("a", 3L, "c", 3L), totals(sketch));
+    }
+
+    @Test
+    void evictsTheOldestKeyAmongEqualCounts() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+        sketch.offer("a");
+        sketch.offer("b");
+        sketch.offer("c");
+
+        assertEquals(Map.of("b", 1L, "c", 2L), totals(sketch));
+    }
+
+    @Test
+    void inheritedCountsKeepGrowing() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(1);
+        sketch.offer("a");
+        sketch.offer("b");
+        sketch.offer("b");
+
+        assertEquals(Map.of("b", 3L), totals(sketch));
+    }
+
+    @Test
+    void addToMergesIntoExistingTotals() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+        sketch.offer("a");
+        Map<String, Long> totals = new HashMap<>(Map.of("a", 4L, "z", 1L));
+
+        sketch.addTo(totals);
+
+        assertEquals(Map.of("a", 5L, "z", 1L), totals);
+    }
+
+    @Test
+    void clearForgetsEverything() {
+        SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+        sketch.offer("a");
+        sketch.offer("b");
+        sketch.clear();
+        sketch.offer("c");
+
+        assertEquals(Map.of("c", 1L), totals(sketch));
+        assertTrue(totals(new SpaceSavingSketch<>(1)).isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingSketch<String>(0));
+    }
+
+    private <K> Map<K, Long> totals(SpaceSavingSketch<K> sketch) {
+        Map<K, Long> totals = new HashMap<>();
+        sketch.addTo(totals);
+        return totals;
+    }
+}